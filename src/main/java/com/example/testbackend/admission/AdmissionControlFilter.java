@@ -0,0 +1,154 @@
+package com.example.testbackend.admission;
+
+import com.example.testbackend.cluster.ShardForwarder;
+import com.example.testbackend.config.AdmissionControlProperties;
+import com.example.testbackend.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controle de admissão das rotas de filmes, aplicado antes da leitura do corpo da requisição:
+ * baldes de tokens por cliente (separados para importação e leitura) e, para importações, o limite global
+ * ponderado pelo tamanho do upload. Requisições recusadas recebem 429 com {@code Retry-After}.
+ * <p>
+ * Com o cluster habilitado, fica antes do roteamento por importação: o cliente é cobrado no nó que o recebe, onde o
+ * IP remoto ainda é o dele, e o nó dono não cobra de novo as requisições encaminhadas por outro nó.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 15)
+@ConditionalOnProperty(prefix = "app.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final String MOVIES_PATH = "/api/v1/movies/";
+    private static final String IMPORT_PATH = "/api/v1/movies/import";
+
+    private final AdmissionControlProperties properties;
+    private final ImportConcurrencyLimiter importConcurrencyLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ShardForwarder shardForwarder;
+    private final ClientBuckets importBuckets;
+    private final ClientBuckets readBuckets;
+    private final Counter admittedImports;
+    private final Counter admittedReads;
+
+    public AdmissionControlFilter(AdmissionControlProperties properties, ImportConcurrencyLimiter importConcurrencyLimiter,
+                                  ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                  ObjectProvider<ShardForwarder> shardForwarder) {
+        this.properties = properties;
+        this.importConcurrencyLimiter = importConcurrencyLimiter;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.shardForwarder = shardForwarder.getIfAvailable();
+        this.importBuckets = new ClientBuckets(properties.getImportRate(), properties.getMaxClients());
+        this.readBuckets = new ClientBuckets(properties.getReadRate(), properties.getMaxClients());
+        this.admittedImports = meterRegistry.counter("admission.admitted", "kind", "import");
+        this.admittedReads = meterRegistry.counter("admission.admitted", "kind", "read");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!request.getRequestURI().startsWith(MOVIES_PATH)) {
+            return true;
+        }
+        // Já admitida no nó que recebeu do cliente; aqui o IP remoto seria o do nó, compartilhado por todos
+        return shardForwarder != null && shardForwarder.isFromClusterNode(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean isImport = "POST".equals(request.getMethod()) && request.getRequestURI().startsWith(IMPORT_PATH);
+        String kind = isImport ? "import" : "read";
+        String client = clientOf(request);
+
+        long waitNanos = (isImport ? importBuckets : readBuckets).tryConsume(client, System.nanoTime());
+        if (waitNanos > 0) {
+            reject(request, response, kind, "rate_limit", waitNanos,
+                    "Limite de requisições excedido para o cliente " + client);
+            return;
+        }
+
+        if (!isImport) {
+            admittedReads.increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        int weight = importConcurrencyLimiter.weightOf(request.getContentLengthLong());
+        boolean acquired;
+        try {
+            acquired = importConcurrencyLimiter.tryAcquire(weight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            reject(request, response, kind, "concurrency", TimeUnit.SECONDS.toNanos(1),
+                    "Capacidade de importação esgotada, tente novamente em instantes");
+            return;
+        }
+
+        admittedImports.increment();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            importConcurrencyLimiter.release(weight);
+        }
+    }
+
+    /**
+     * O cabeçalho de cliente é escolhido por quem faz a requisição, então só vale quando ela vem de um proxy
+     * confiável; caso contrário, trocar o valor a cada requisição daria sempre um balde cheio
+     */
+    private String clientOf(HttpServletRequest request) {
+        String remoteAddress = request.getRemoteAddr();
+        if (!properties.getTrustedProxies().contains(remoteAddress)) {
+            return remoteAddress;
+        }
+        String client = request.getHeader(properties.getClientHeader());
+        return client == null || client.isBlank() ? remoteAddress : client;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, String kind, String reason,
+                        long waitNanos, String message) throws IOException {
+        meterRegistry.counter("admission.rejected", "kind", kind, "reason", reason).increment();
+        long retryAfterSeconds = Math.max(1, (long) Math.ceil(Math.min(waitNanos, TimeUnit.HOURS.toNanos(1)) / 1e9));
+        log.debug("Requisição {} {} recusada ({}), Retry-After {}s", request.getMethod(), request.getRequestURI(),
+                reason, retryAfterSeconds);
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("Too Many Requests")
+                .message(message)
+                .path(request.getRequestURI())
+                .build();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
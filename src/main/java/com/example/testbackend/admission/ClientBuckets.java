@@ -0,0 +1,40 @@
+package com.example.testbackend.admission;
+
+import com.example.testbackend.config.AdmissionControlProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Baldes de tokens por cliente, limitados a {@code maxClients}: ao chegar um cliente novo com o mapa cheio, o
+ * balde usado há mais tempo é descartado. Um cliente descartado volta com o balde cheio, então o limite deve
+ * ficar bem acima da quantidade de clientes ativos ao mesmo tempo.
+ */
+final class ClientBuckets {
+
+    private final AdmissionControlProperties.Bucket limits;
+    private final LinkedHashMap<String, TokenBucket> buckets;
+
+    ClientBuckets(AdmissionControlProperties.Bucket limits, int maxClients) {
+        this.limits = limits;
+        // Ordem de acesso: o primeiro elemento é sempre o usado há mais tempo
+        this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                return size() > maxClients;
+            }
+        };
+    }
+
+    /**
+     * Consome um token do cliente; retorna 0 em caso de sucesso ou os nanossegundos até o próximo token
+     */
+    long tryConsume(String client, long now) {
+        TokenBucket bucket;
+        synchronized (buckets) {
+            bucket = buckets.computeIfAbsent(client,
+                    ignored -> new TokenBucket(limits.getRefillPerSecond(), limits.getBurst(), now));
+        }
+        return bucket.tryConsume(now);
+    }
+}
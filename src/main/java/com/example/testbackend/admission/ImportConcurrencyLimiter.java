@@ -0,0 +1,72 @@
+package com.example.testbackend.admission;
+
+import com.example.testbackend.config.AdmissionControlProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limite global de importações simultâneas ponderado pelo tamanho do upload. Uma importação de
+ * N vezes {@code weight-unit} ocupa N + 1 vagas, até o total de {@code max-weight}; a fila de espera é limitada.
+ */
+@Component
+public class ImportConcurrencyLimiter {
+
+    private final AdmissionControlProperties.ImportConcurrency properties;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public ImportConcurrencyLimiter(AdmissionControlProperties admissionControlProperties, MeterRegistry meterRegistry) {
+        this.properties = admissionControlProperties.getImportConcurrency();
+        this.permits = new Semaphore(properties.getMaxWeight(), true);
+        Gauge.builder("admission.import.queue.depth", waiting, AtomicInteger::get)
+                .description("Importações aguardando vaga no limite de concorrência")
+                .register(meterRegistry);
+        Gauge.builder("admission.import.inflight.weight", this, limiter -> limiter.inFlightWeight())
+                .description("Peso das importações em andamento")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Peso de um upload com o tamanho informado (tamanho desconhecido pesa 1)
+     */
+    public int weightOf(long contentLength) {
+        long unit = Math.max(1, properties.getWeightUnit().toBytes());
+        long weight = 1 + Math.max(0, contentLength) / unit;
+        return (int) Math.min(weight, properties.getMaxWeight());
+    }
+
+    /**
+     * Tenta reservar o peso informado, aguardando na fila se houver espaço nela
+     */
+    public boolean tryAcquire(int weight) throws InterruptedException {
+        if (permits.tryAcquire(weight)) {
+            return true;
+        }
+        if (waiting.incrementAndGet() > properties.getMaxQueue()) {
+            waiting.decrementAndGet();
+            return false;
+        }
+        try {
+            return permits.tryAcquire(weight, properties.getQueueTimeoutMs(), TimeUnit.MILLISECONDS);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    public void release(int weight) {
+        permits.release(weight);
+    }
+
+    public int queueDepth() {
+        return waiting.get();
+    }
+
+    public int inFlightWeight() {
+        return properties.getMaxWeight() - permits.availablePermits();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.testbackend.admission;
+
+/**
+ * Balde de tokens de um cliente, reposto continuamente a {@code refillPerSecond} até {@code capacity}
+ */
+final class TokenBucket {
+
+    private final double refillPerNano;
+    private final double capacity;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(double refillPerSecond, int capacity, long now) {
+        this.refillPerNano = refillPerSecond / 1e9;
+        this.capacity = capacity;
+        this.tokens = capacity;
+        this.lastRefill = now;
+    }
+
+    /**
+     * Consome um token; retorna 0 em caso de sucesso ou os nanossegundos até o próximo token disponível
+     */
+    synchronized long tryConsume(long now) {
+        refill(now);
+        if (tokens >= 1.0) {
+            tokens -= 1.0;
+            return 0;
+        }
+        return refillPerNano <= 0 ? Long.MAX_VALUE : (long) Math.ceil((1.0 - tokens) / refillPerNano);
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.testbackend.cluster;
+
+import com.example.testbackend.config.ClusterProperties;
+import com.example.testbackend.repository.MovieStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoint /actuator/cluster: nós do cluster e importações locais; a escrita troca a lista de nós e rebalanceia
+ */
+@Component
+@Endpoint(id = "cluster")
+@ConditionalOnProperty(prefix = "app.cluster", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ClusterEndpoint {
+
+    private final ClusterProperties properties;
+    private final ShardRing shardRing;
+    private final ShardRebalancer shardRebalancer;
+    private final MovieStore movieStore;
+
+    @ReadOperation
+    public Map<String, Object> cluster() {
+        List<String> localImports = movieStore.findImportUuids();
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("nodeId", shardRing.getNodeId());
+        response.put("routing", properties.getRouting());
+        response.put("nodes", shardRing.getNodes());
+        response.put("localImports", localImports.size());
+        response.put("misplacedImports", localImports.stream().filter(uuid -> !shardRing.isOwnedLocally(uuid)).count());
+        return response;
+    }
+
+    /**
+     * Com {@code nodes} no formato {@code a=http://host-a:8080,b=http://host-b:8080}, troca a lista de nós;
+     * em seguida transfere as importações locais que mudaram de dono
+     */
+    @WriteOperation
+    public ShardRebalancer.RebalanceReport rebalance(@Nullable String nodes) {
+        if (nodes == null || nodes.isBlank()) {
+            return shardRebalancer.rebalance();
+        }
+        return shardRebalancer.updateNodes(parseNodes(nodes));
+    }
+
+    private static List<ClusterProperties.Node> parseNodes(String nodes) {
+        List<ClusterProperties.Node> parsed = new ArrayList<>();
+        for (String entry : nodes.split(",")) {
+            int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Nó inválido, use id=url: " + entry);
+            }
+            parsed.add(new ClusterProperties.Node(entry.substring(0, separator).trim(), entry.substring(separator + 1).trim()));
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.testbackend.cluster;
+
+import com.example.testbackend.config.ClusterProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Cliente HTTP entre os nós: encaminha requisições ao nó dono e envia importações transferidas no rebalanceamento
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cluster", name = "enabled", havingValue = "true")
+public class ShardForwarder {
+
+    public static final String FORWARDED_HEADER = "X-Shard-Forwarded";
+    public static final String SECRET_HEADER = "X-Shard-Secret";
+
+    /**
+     * Cabeçalhos de conexão, que não são repassados (e alguns o HttpClient não aceita definir)
+     */
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            "connection", "content-length", "expect", "host", "keep-alive", "transfer-encoding", "upgrade");
+
+    /**
+     * Cabeçalhos entre nós, que nunca são repassados como vieram do cliente
+     */
+    private static final Set<String> CLUSTER_HEADERS = Set.of(
+            FORWARDED_HEADER.toLowerCase(Locale.ROOT), SECRET_HEADER.toLowerCase(Locale.ROOT));
+
+    /**
+     * Buffer entre quem gera o CSV de uma transferência e o envio pelo HttpClient
+     */
+    private static final int TRANSFER_PIPE_BYTES = 64 * 1024;
+
+    private final HttpClient httpClient;
+    private final Duration timeout;
+    private final String nodeId;
+    private final byte[] secret;
+
+    public ShardForwarder(ClusterProperties properties) {
+        if (properties.getSecret() == null || properties.getSecret().isBlank()) {
+            throw new IllegalStateException("app.cluster.secret é obrigatório com o cluster habilitado");
+        }
+        this.secret = properties.getSecret().getBytes(StandardCharsets.UTF_8);
+        this.timeout = properties.getForwardTimeout();
+        this.nodeId = properties.getNodeId();
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    /**
+     * Requisição vinda de outro nó do cluster: cabeçalho de encaminhamento com o segredo compartilhado correto
+     */
+    public boolean isFromClusterNode(HttpServletRequest request) {
+        String providedSecret = request.getHeader(SECRET_HEADER);
+        return request.getHeader(FORWARDED_HEADER) != null && providedSecret != null
+                && MessageDigest.isEqual(secret, providedSecret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Repete a requisição no nó dono e copia status, cabeçalhos e corpo da resposta
+     */
+    public void forward(ClusterProperties.Node owner, HttpServletRequest request, HttpServletResponse response)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(owner.getUrl() + ShardRoutingFilter.pathAndQuery(request)))
+                .timeout(timeout)
+                .header(FORWARDED_HEADER, nodeId)
+                .header(SECRET_HEADER, new String(secret, StandardCharsets.UTF_8));
+        for (String name : Collections.list(request.getHeaderNames())) {
+            String lowerCaseName = name.toLowerCase(Locale.ROOT);
+            if (!HOP_BY_HOP_HEADERS.contains(lowerCaseName) && !CLUSTER_HEADERS.contains(lowerCaseName)) {
+                for (String value : Collections.list(request.getHeaders(name))) {
+                    builder.header(name, value);
+                }
+            }
+        }
+        builder.method(request.getMethod(), bodyOf(request));
+
+        HttpResponse<InputStream> forwarded = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+
+        response.setStatus(forwarded.statusCode());
+        for (Map.Entry<String, List<String>> header : forwarded.headers().map().entrySet()) {
+            if (header.getKey().startsWith(":") || HOP_BY_HOP_HEADERS.contains(header.getKey().toLowerCase(Locale.ROOT))) {
+                continue;
+            }
+            for (String value : header.getValue()) {
+                response.addHeader(header.getKey(), value);
+            }
+        }
+        forwarded.headers().firstValueAsLong("content-length").ifPresent(response::setContentLengthLong);
+        try (InputStream body = forwarded.body()) {
+            body.transferTo(response.getOutputStream());
+        }
+    }
+
+    /**
+     * Corpo lido do stream da requisição à medida que é enviado, sem copiá-lo para o heap (uploads chegam a
+     * {@code max-request-size}); o tamanho declarado pelo cliente é mantido quando conhecido
+     */
+    private static HttpRequest.BodyPublisher bodyOf(HttpServletRequest request) {
+        long contentLength = request.getContentLengthLong();
+        if (contentLength == 0 || (contentLength < 0 && request.getHeader("Transfer-Encoding") == null)) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        HttpRequest.BodyPublisher stream = HttpRequest.BodyPublishers.ofInputStream(() -> {
+            try {
+                return request.getInputStream();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return contentLength > 0 ? HttpRequest.BodyPublishers.fromPublisher(stream, contentLength) : stream;
+    }
+
+    /**
+     * Envia o CSV de uma importação ao novo dono à medida que {@code csv} o escreve, sem montá-lo em memória;
+     * retorna o status HTTP da resposta (409 quando o novo dono já tem a importação, de uma transferência anterior
+     * cuja confirmação se perdeu). Se a escrita falha no meio, o envio é abortado em vez de terminar com um CSV
+     * truncado, que o novo dono aceitaria como uma importação completa.
+     */
+    public int transfer(ClusterProperties.Node owner, String importUuid, BodyWriter csv) throws IOException, InterruptedException {
+        PipedInputStream pipe = new PipedInputStream(TRANSFER_PIPE_BYTES);
+        TransferBody body = new TransferBody(pipe);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(owner.getUrl() + ShardTransferController.TRANSFER_PATH + importUuid))
+                .timeout(timeout)
+                .header(FORWARDED_HEADER, nodeId)
+                .header(SECRET_HEADER, new String(secret, StandardCharsets.UTF_8))
+                .header("Content-Type", "text/csv")
+                .POST(HttpRequest.BodyPublishers.ofInputStream(() -> body))
+                .build();
+
+        CompletableFuture<HttpResponse<Void>> response;
+        try (OutputStream output = new PipedOutputStream(pipe)) {
+            response = httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+            // Se o envio termina antes de ler tudo (nó fora do ar, resposta antecipada), a escrita não fica presa no pipe
+            response.whenComplete((ignored, error) -> body.closeQuietly());
+            try {
+                csv.writeTo(output);
+            } catch (IOException | RuntimeException e) {
+                body.fail(e);
+            }
+        }
+
+        try {
+            // Uma resposta só chega sem erro se o destino leu o CSV até o fim ou respondeu sem lê-lo (403, 409, 421)
+            return response.get().statusCode();
+        } catch (ExecutionException e) {
+            IOException failure = e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+            if (body.failure != null) {
+                failure.addSuppressed(body.failure);
+            }
+            throw failure;
+        }
+    }
+
+    /**
+     * Escreve o corpo de uma transferência
+     */
+    @FunctionalInterface
+    public interface BodyWriter {
+
+        void writeTo(OutputStream output) throws IOException;
+    }
+
+    /**
+     * Lado de leitura do pipe entregue ao HttpClient: quando a escrita falhou, o fim do pipe vira um erro, o que
+     * aborta a requisição
+     */
+    private static final class TransferBody extends FilterInputStream {
+
+        private volatile Exception failure;
+
+        private TransferBody(PipedInputStream pipe) {
+            super(pipe);
+        }
+
+        void fail(Exception cause) {
+            failure = cause;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            checkEnd(value);
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            checkEnd(count);
+            return count;
+        }
+
+        private void checkEnd(int result) throws IOException {
+            if (result < 0 && failure != null) {
+                throw new IOException("CSV da importação incompleto", failure);
+            }
+        }
+
+        void closeQuietly() {
+            try {
+                close();
+            } catch (IOException ignored) {
+                // Nada a liberar além do buffer do pipe
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.testbackend.cluster;
+
+import com.example.testbackend.config.ClusterProperties;
+import com.example.testbackend.repository.MovieRow;
+import com.example.testbackend.repository.MovieStore;
+import com.example.testbackend.service.MovieService;
+import lombok.Builder;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Transfere ao novo dono as importações locais que mudaram de dono após uma alteração na lista de nós.
+ * Cada importação é enviada como CSV, gerado por um cursor do armazenamento à medida que é enviado, removida
+ * daqui só depois da confirmação do novo dono e, enquanto isso, continua sendo atendida localmente. Importações
+ * ainda sendo gravadas não são transferidas (ficariam pela metade no novo dono); elas e as que falharem ficam aqui,
+ * atendidas localmente, até o próximo rebalanceamento.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cluster", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ShardRebalancer {
+
+    private static final String CSV_HEADER = "year;title;studios;producers;winner\n";
+
+    private final ShardRing shardRing;
+    private final ShardForwarder shardForwarder;
+    private final MovieStore movieStore;
+    private final MovieService movieService;
+
+    public synchronized RebalanceReport updateNodes(List<ClusterProperties.Node> nodes) {
+        List<String> moving = movieStore.findImportUuids().stream()
+                .filter(importUuid -> !shardRing.getNodeId().equals(ShardRing.ownerOf(importUuid, nodes).getId()))
+                .toList();
+        moving.forEach(shardRing::beginHandoff);
+        shardRing.setNodes(nodes);
+        log.info("Lista de nós do cluster atualizada para {}; {} importações mudam de dono",
+                nodes.stream().map(ClusterProperties.Node::getId).toList(), moving.size());
+        return rebalance();
+    }
+
+    public synchronized RebalanceReport rebalance() {
+        List<String> moved = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        List<String> pending = new ArrayList<>();
+        int kept = 0;
+
+        for (String importUuid : movieStore.findImportUuids()) {
+            if (shardRing.isOwnedLocally(importUuid)) {
+                kept++;
+                continue;
+            }
+            ClusterProperties.Node owner = shardRing.ownerOf(importUuid);
+            shardRing.beginHandoff(importUuid);
+            if (movieService.isImportInProgress(importUuid)) {
+                pending.add(importUuid);
+                continue;
+            }
+            try {
+                int status = shardForwarder.transfer(owner, importUuid, output -> writeCsv(importUuid, output));
+                // 409: o novo dono já recebeu a importação numa tentativa anterior
+                if (status / 100 != 2 && status != 409) {
+                    throw new IOException("nó respondeu " + status);
+                }
+                movieService.dropImport(importUuid);
+                shardRing.endHandoff(importUuid);
+                moved.add(importUuid);
+            } catch (IOException e) {
+                log.warn("Falha ao transferir a importação {} para o nó {}: {}", importUuid, owner.getId(), e.getMessage());
+                failed.add(importUuid);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed.add(importUuid);
+                break;
+            }
+        }
+
+        log.info("Rebalanceamento concluído: {} importações mantidas, {} transferidas, {} com falha, {} em andamento",
+                kept, moved.size(), failed.size(), pending.size());
+        return RebalanceReport.builder().kept(kept).moved(moved).failed(failed).pending(pending).build();
+    }
+
+    private void writeCsv(String importUuid, OutputStream output) throws IOException {
+        Writer csv = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+        csv.write(CSV_HEADER);
+        try {
+            movieStore.forEachMovie(importUuid, row -> writeRow(csv, row));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        csv.flush();
+    }
+
+    private static void writeRow(Writer csv, MovieRow row) {
+        try {
+            csv.write(Integer.toString(row.getYear()));
+            csv.write(';');
+            writeQuoted(csv, row.getTitle());
+            csv.write(';');
+            writeQuoted(csv, row.getStudios());
+            csv.write(';');
+            writeQuoted(csv, row.getProducers());
+            csv.write(';');
+            csv.write(row.isWinner() ? "yes\n" : "\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeQuoted(Writer csv, String value) throws IOException {
+        if (value != null) {
+            csv.write('"');
+            csv.write(value.replace("\"", "\"\""));
+            csv.write('"');
+        }
+    }
+
+    @Value
+    @Builder
+    public static class RebalanceReport {
+        int kept;
+        List<String> moved;
+        List<String> failed;
+        /**
+         * Importações ainda sendo gravadas, transferidas no próximo rebalanceamento
+         */
+        List<String> pending;
+    }
+}
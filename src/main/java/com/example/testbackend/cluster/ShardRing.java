@@ -0,0 +1,128 @@
+package com.example.testbackend.cluster;
+
+import com.example.testbackend.config.ClusterProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dono de cada importação por rendezvous hashing (maior hash de UUID + nó): ao adicionar um nó, só as importações
+ * que passam a pertencer a ele mudam de dono, e nenhuma troca de dono entre os nós antigos. Importações em
+ * transferência continuam sendo atendidas localmente até a entrega ao novo dono.
+ */
+@Component
+@Slf4j
+public class ShardRing {
+
+    private final boolean enabled;
+    private final String nodeId;
+    private final Set<String> handoffs = ConcurrentHashMap.newKeySet();
+    private volatile List<ClusterProperties.Node> nodes;
+
+    public ShardRing(ClusterProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.nodeId = properties.getNodeId();
+        this.nodes = List.copyOf(properties.getNodes());
+        if (enabled) {
+            validate(nodes);
+            log.info("Cluster habilitado: nó {} entre {}", nodeId, nodes.stream().map(ClusterProperties.Node::getId).toList());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public List<ClusterProperties.Node> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Substitui a lista de nós; as importações locais que mudaram de dono devem ser transferidas em seguida
+     */
+    public void setNodes(List<ClusterProperties.Node> newNodes) {
+        validate(newNodes);
+        this.nodes = List.copyOf(newNodes);
+    }
+
+    public boolean isOwnedLocally(String importUuid) {
+        return !enabled || nodeId.equals(ownerOf(importUuid).getId());
+    }
+
+    /**
+     * Nó remoto que deve atender a importação, ou vazio quando ela é atendida aqui
+     */
+    public Optional<ClusterProperties.Node> remoteOwnerOf(String importUuid) {
+        if (!enabled || handoffs.contains(importUuid)) {
+            return Optional.empty();
+        }
+        ClusterProperties.Node owner = ownerOf(importUuid);
+        return nodeId.equals(owner.getId()) ? Optional.empty() : Optional.of(owner);
+    }
+
+    public ClusterProperties.Node ownerOf(String importUuid) {
+        return ownerOf(importUuid, nodes);
+    }
+
+    static ClusterProperties.Node ownerOf(String importUuid, List<ClusterProperties.Node> current) {
+        long keyHash = hash(importUuid);
+        ClusterProperties.Node owner = null;
+        long best = 0;
+        for (ClusterProperties.Node node : current) {
+            long score = mix(keyHash ^ hash(node.getId()));
+            if (owner == null || Long.compareUnsigned(score, best) > 0) {
+                owner = node;
+                best = score;
+            }
+        }
+        return owner;
+    }
+
+    void beginHandoff(String importUuid) {
+        handoffs.add(importUuid);
+    }
+
+    void endHandoff(String importUuid) {
+        handoffs.remove(importUuid);
+    }
+
+    private void validate(List<ClusterProperties.Node> candidates) {
+        if (candidates.stream().noneMatch(node -> nodeId.equals(node.getId()))) {
+            throw new IllegalArgumentException("O nó " + nodeId + " não consta na lista de nós do cluster");
+        }
+        if (candidates.stream().map(ClusterProperties.Node::getId).distinct().count() != candidates.size()) {
+            throw new IllegalArgumentException("Identificadores de nó repetidos na lista de nós do cluster");
+        }
+    }
+
+    /**
+     * FNV-1a de 64 bits
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Finalizador do SplitMix64, para espalhar a combinação dos dois hashes
+     */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.testbackend.cluster;
+
+import com.example.testbackend.config.ClusterProperties;
+import com.example.testbackend.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.http.HttpTimeoutException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Envia as requisições de uma importação ao nó dono dela: encaminhando internamente ou respondendo 307 com a
+ * URL do dono (cabeçalho {@code X-Shard-Owner}). Fica depois do controle de admissão, então a requisição
+ * consome os tokens do cliente no nó que a recebe; o dono não cobra de novo o que chega encaminhado.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@ConditionalOnProperty(prefix = "app.cluster", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ShardRoutingFilter extends OncePerRequestFilter {
+
+    public static final String OWNER_HEADER = "X-Shard-Owner";
+    /**
+     * Apenas as rotas de uma importação existente; uploads ({@code /import}, {@code /import/batch}) são atendidos
+     * pelo nó que os recebe, que gera um UUID próprio
+     */
+    private static final Pattern IMPORT_PATH = Pattern.compile("^/api/v1/movies/import/([^/]+)/(awards|status|producers)(/.*)?$");
+
+    private final ClusterProperties properties;
+    private final ShardRing shardRing;
+    private final ShardForwarder shardForwarder;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Só requisições autenticadas como vindas de outro nó deixam de ser roteadas; o cabeçalho sozinho não basta
+        return !IMPORT_PATH.matcher(request.getRequestURI()).matches() || shardForwarder.isFromClusterNode(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Matcher matcher = IMPORT_PATH.matcher(request.getRequestURI());
+        matcher.matches();
+        Optional<ClusterProperties.Node> owner = shardRing.remoteOwnerOf(matcher.group(1));
+        if (owner.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ClusterProperties.Node node = owner.get();
+        response.setHeader(OWNER_HEADER, node.getId());
+        if (properties.getRouting() == ClusterProperties.Routing.REDIRECT) {
+            response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
+            response.setHeader(HttpHeaders.LOCATION, node.getUrl() + pathAndQuery(request));
+            return;
+        }
+
+        try {
+            shardForwarder.forward(node, request, response);
+        } catch (HttpTimeoutException e) {
+            writeError(request, response, HttpStatus.GATEWAY_TIMEOUT, "Tempo esgotado aguardando o nó " + node.getId());
+        } catch (IOException e) {
+            log.warn("Falha ao encaminhar {} {} para o nó {}: {}", request.getMethod(), request.getRequestURI(),
+                    node.getId(), e.getMessage());
+            writeError(request, response, HttpStatus.BAD_GATEWAY, "Nó " + node.getId() + " indisponível");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writeError(request, response, HttpStatus.SERVICE_UNAVAILABLE, "Encaminhamento interrompido");
+        }
+    }
+
+    static String pathAndQuery(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return query == null ? request.getRequestURI() : request.getRequestURI() + "?" + query;
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                            String message) throws IOException {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .path(request.getRequestURI())
+                .build();
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
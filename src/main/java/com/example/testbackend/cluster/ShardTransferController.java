@@ -0,0 +1,61 @@
+package com.example.testbackend.cluster;
+
+import com.example.testbackend.dto.response.ImportResponse;
+import com.example.testbackend.repository.MovieStore;
+import com.example.testbackend.service.MovieService;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * Rota interna que recebe as importações transferidas por outro nó durante o rebalanceamento. Só aceita
+ * requisições com o segredo compartilhado do cluster.
+ */
+@Hidden
+@RestController
+@RequestMapping("/internal/cluster")
+@ConditionalOnProperty(prefix = "app.cluster", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ShardTransferController {
+
+    public static final String TRANSFER_PATH = "/internal/cluster/imports/";
+
+    private static final int MISDIRECTED_REQUEST = 421;
+
+    private final ShardRing shardRing;
+    private final ShardForwarder shardForwarder;
+    private final MovieStore movieStore;
+    private final MovieService movieService;
+
+    @PostMapping(value = "/imports/{importUuid}", consumes = "text/csv")
+    public ResponseEntity<ImportResponse> receiveImport(@PathVariable String importUuid, HttpServletRequest request)
+            throws IOException {
+        if (!shardForwarder.isFromClusterNode(request)) {
+            log.warn("Transferência da importação {} recusada: requisição sem o segredo do cluster, de {}",
+                    importUuid, request.getRemoteAddr());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (!shardRing.isOwnedLocally(importUuid)) {
+            log.warn("Transferência da importação {} recusada: o dono é o nó {}", importUuid,
+                    shardRing.ownerOf(importUuid).getId());
+            return ResponseEntity.status(MISDIRECTED_REQUEST).build();
+        }
+        // Nunca substitui uma importação existente: se ela já está aqui, veio de uma transferência anterior
+        if (movieStore.existsByImportUuid(importUuid)) {
+            log.info("Transferência da importação {} ignorada: ela já está neste nó", importUuid);
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(movieService.importShard(importUuid, request.getInputStream()));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.testbackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Configurações do controle de admissão das rotas de filmes
+ */
+@Data
+@ConfigurationProperties(prefix = "app.admission")
+public class AdmissionControlProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Cabeçalho que identifica o cliente, aceito apenas de {@code trusted-proxies}; nos demais casos o cliente é o
+     * endereço remoto
+     */
+    private String clientHeader = "X-Client-Id";
+
+    /**
+     * Endereços IP dos proxies (gateway, balanceador) autorizados a informar o cliente em {@code client-header}
+     */
+    private Set<String> trustedProxies = new HashSet<>();
+
+    /**
+     * Quantidade máxima de clientes com baldes de tokens em memória, por tipo de rota; acima dela o balde usado há
+     * mais tempo é descartado
+     */
+    private int maxClients = 10_000;
+
+    private Bucket importRate = new Bucket(1.0, 5);
+
+    private Bucket readRate = new Bucket(50.0, 100);
+
+    private ImportConcurrency importConcurrency = new ImportConcurrency();
+
+    @Data
+    public static class Bucket {
+
+        /**
+         * Tokens repostos por segundo para cada cliente
+         */
+        private double refillPerSecond;
+
+        /**
+         * Capacidade do balde (rajada máxima)
+         */
+        private int burst;
+
+        public Bucket() {
+        }
+
+        public Bucket(double refillPerSecond, int burst) {
+            this.refillPerSecond = refillPerSecond;
+            this.burst = burst;
+        }
+    }
+
+    @Data
+    public static class ImportConcurrency {
+
+        /**
+         * Peso total de importações em andamento; cada importação pesa 1 + tamanho / weight-unit
+         */
+        private int maxWeight = 8;
+
+        /**
+         * Tamanho de upload equivalente a uma unidade de peso
+         */
+        private DataSize weightUnit = DataSize.ofMegabytes(5);
+
+        /**
+         * Quantidade máxima de importações aguardando vaga; acima dela a resposta é 429 imediatamente
+         */
+        private int maxQueue = 16;
+
+        /**
+         * Tempo máximo de espera por vaga antes de responder 429
+         */
+        private long queueTimeoutMs = 2000;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.testbackend.config;
+
+import com.example.testbackend.service.awards.AwardEvaluation;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configurações da análise de intervalos entre prêmios
+ */
+@Data
+@ConfigurationProperties(prefix = "app.awards")
+public class AwardsProperties {
+
+    /**
+     * Leitura das vitórias: MATERIALIZED (segmento compactado, cópia fora do heap ou carga do armazenamento) ou
+     * STREAMING (sempre pelo cursor do armazenamento)
+     */
+    private AwardEvaluation evaluation = AwardEvaluation.MATERIALIZED;
+}
@@ -0,0 +1,68 @@
+package com.example.testbackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configurações do particionamento das importações entre nós da aplicação
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cluster")
+public class ClusterProperties {
+
+    /**
+     * Desligado, todas as importações pertencem ao nó local
+     */
+    private boolean enabled = false;
+
+    /**
+     * Identificador deste nó; deve constar em {@code nodes}
+     */
+    private String nodeId = "local";
+
+    /**
+     * Segredo compartilhado entre os nós, enviado em {@code X-Shard-Secret} nas requisições encaminhadas e nas
+     * transferências; obrigatório com o cluster ligado
+     */
+    private String secret;
+
+    /**
+     * Nós do cluster (identificador e URL base), iguais em todos os nós
+     */
+    private List<Node> nodes = new ArrayList<>();
+
+    /**
+     * Como atender requisições de importações de outro nó: encaminhando internamente ou respondendo 307
+     */
+    private Routing routing = Routing.FORWARD;
+
+    /**
+     * Tempo máximo de uma requisição encaminhada ou de uma transferência de importação
+     */
+    private Duration forwardTimeout = Duration.ofSeconds(10);
+
+    public enum Routing {
+        FORWARD,
+        REDIRECT
+    }
+
+    @Data
+    public static class Node {
+
+        private String id;
+
+        private String url;
+
+        public Node() {
+        }
+
+        public Node(String id, String url) {
+            this.id = id;
+            this.url = url;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.testbackend.config;
 
+import com.example.testbackend.repository.MovieStore;
 import com.example.testbackend.service.MovieService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
@@ -17,14 +20,35 @@ import java.io.InputStream;
 public class DataInitializer implements CommandLineRunner {
 
     private final MovieService movieService;
+    private final MovieStore movieStore;
+    private final StartupProperties startupProperties;
 
     @Override
     public void run(String... args) {
+        if (startupProperties.isDeferSeed()) {
+            return;
+        }
         loadInitialData();
     }
 
+    /**
+     * Com {@code app.startup.defer-seed}, a carga inicial roda depois da prontidão, sem atrasar o primeiro tráfego
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadDeferredInitialData() {
+        if (!startupProperties.isDeferSeed()) {
+            return;
+        }
+        Thread.ofPlatform().name("initial-data-load").daemon().start(this::loadInitialData);
+    }
+
     private void loadInitialData() {
         try {
+            if (!movieStore.isEmpty()) {
+                log.info("Armazenamento já possui filmes recuperados, carregamento dos dados iniciais ignorado");
+                return;
+            }
+
             log.info("Iniciando carregamento dos dados iniciais...");
 
             ClassPathResource resource = new ClassPathResource("input/movielist.csv");
@@ -0,0 +1,9 @@
+package com.example.testbackend.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({ProducerDictionaryProperties.class, StudioDictionaryProperties.class})
+public class DictionaryConfig {
+}
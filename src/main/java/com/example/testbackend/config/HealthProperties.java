@@ -0,0 +1,44 @@
+package com.example.testbackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Limites de saturação usados pelas verificações de saúde e pela prontidão (readiness)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.health")
+public class HealthProperties {
+
+    /**
+     * Por quanto tempo o resultado das verificações é reaproveitado entre sondagens
+     */
+    private Duration cacheTtl = Duration.ofSeconds(1);
+
+    /**
+     * Latência de ida e volta ao banco acima da qual a aplicação é considerada sobrecarregada
+     */
+    private Duration dbLatencyOverload = Duration.ofMillis(500);
+
+    /**
+     * Tempo máximo da sonda de latência do banco; acima dele a verificação é DOWN (arredondado para segundos)
+     */
+    private Duration dbProbeTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Fração do pool de conexões em uso acima da qual, havendo threads aguardando conexão, há sobrecarga
+     */
+    private double poolUsageOverload = 0.9;
+
+    /**
+     * Quantidade de importações na fila de admissão a partir da qual há sobrecarga
+     */
+    private int importQueueOverload = 8;
+
+    /**
+     * Fração mínima livre do heap (medida após a última coleta) antes de recusar tráfego
+     */
+    private double minHeapHeadroom = 0.10;
+}
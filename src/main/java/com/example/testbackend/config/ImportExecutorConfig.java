@@ -0,0 +1,48 @@
+package com.example.testbackend.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+@EnableConfigurationProperties(ImportProperties.class)
+public class ImportExecutorConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService importExecutor(ImportProperties importProperties) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "csv-import-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(Math.max(1, importProperties.getParallelism()), threadFactory);
+    }
+
+    /**
+     * Gravadores do modo de importação CONCURRENT. Threads virtuais: cada importação cria os seus
+     * gravadores sem disputar um pool fixo com as demais; o limite real é o pool de conexões.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService importWriterExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("csv-import-writer-", 0).factory());
+    }
+
+    /**
+     * Compactação das importações concluídas: uma thread, para não disputar CPU com as importações em andamento
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService compactionExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "import-compaction");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.testbackend.config;
+
+import com.example.testbackend.service.importer.ImportWriteMode;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configurações do processo de importação de arquivos CSV
+ */
+@Data
+@ConfigurationProperties(prefix = "app.import")
+public class ImportProperties {
+
+    /**
+     * Quantidade de arquivos processados em paralelo em uma importação em lote
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Quantidade de filmes gravados por transação
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Quantidade máxima de erros de linha detalhados na resposta do modo LENIENT
+     */
+    private int maxReportedErrors = 100;
+
+    /**
+     * Modo de gravação dos blocos: SEQUENTIAL ou CONCURRENT
+     */
+    private ImportWriteMode writeMode = ImportWriteMode.SEQUENTIAL;
+
+    /**
+     * Quantidade de gravadores por importação no modo CONCURRENT
+     */
+    private int writers = 4;
+
+    /**
+     * Capacidade, em blocos, da fila entre a leitura e a gravação no modo CONCURRENT
+     */
+    private int queueCapacity = 8;
+
+    /**
+     * Quantidade de índices de produtores por importação mantidos em memória; os demais são reconstruídos sob demanda
+     */
+    private int timelineCacheSize = 1000;
+}
@@ -0,0 +1,9 @@
+package com.example.testbackend.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({SqlStatsProperties.class, RequestEventLoggingProperties.class, ProfilingProperties.class})
+public class MonitoringConfig {
+}
@@ -0,0 +1,30 @@
+package com.example.testbackend.config;
+
+import lombok.Data;
+
+/**
+ * Regras de normalização aplicadas aos nomes de um dicionário
+ */
+@Data
+public class NameNormalizationProperties {
+
+    /**
+     * Substitui sequências de espaços por um único espaço e remove espaços nas extremidades
+     */
+    private boolean collapseWhitespace = true;
+
+    /**
+     * Aplica a normalização Unicode NFKC (ligaduras, larguras e compatibilidade)
+     */
+    private boolean unicodeNfkc = true;
+
+    /**
+     * Considera iguais nomes que diferem apenas em maiúsculas e minúsculas
+     */
+    private boolean caseFold = true;
+
+    /**
+     * Considera iguais nomes que diferem apenas em acentuação
+     */
+    private boolean stripAccents = true;
+}
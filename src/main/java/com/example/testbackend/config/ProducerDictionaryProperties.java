@@ -0,0 +1,22 @@
+package com.example.testbackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configurações do dicionário de produtores
+ */
+@Data
+@ConfigurationProperties(prefix = "app.producers")
+public class ProducerDictionaryProperties {
+
+    private NameNormalizationProperties normalization = new NameNormalizationProperties();
+
+    /**
+     * Tabela de apelidos: nome alternativo -> nome canônico
+     */
+    private Map<String, String> aliases = new LinkedHashMap<>();
+}
@@ -0,0 +1,34 @@
+package com.example.testbackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configurações do perfilamento por requisição
+ */
+@Data
+@ConfigurationProperties(prefix = "app.profiling")
+public class ProfilingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Cabeçalho que liga o perfilamento de uma requisição (valor "true")
+     */
+    private String header = "X-Profile";
+
+    /**
+     * Perfila todas as requisições, sem depender do cabeçalho; também alterável em /actuator/profiling
+     */
+    private boolean alwaysOn = false;
+
+    /**
+     * Duração a partir da qual uma requisição perfilada é guardada entre as lentas
+     */
+    private long slowThresholdMs = 200;
+
+    /**
+     * Quantidade de requisições lentas mantidas para consulta
+     */
+    private int recentRequests = 50;
+}
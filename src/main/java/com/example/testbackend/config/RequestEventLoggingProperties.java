@@ -0,0 +1,24 @@
+package com.example.testbackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configurações do evento de log estruturado emitido por requisição
+ */
+@Data
+@ConfigurationProperties(prefix = "app.logging.request-events")
+public class RequestEventLoggingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Fração das requisições registradas (0.0 a 1.0). Requisições lentas ou com erro são sempre registradas.
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * Duração a partir da qual a requisição é considerada lenta e sempre registrada
+     */
+    private long slowThresholdMs = 1000;
+}
@@ -0,0 +1,34 @@
+package com.example.testbackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configurações da coleta de estatísticas SQL por requisição
+ */
+@Data
+@ConfigurationProperties(prefix = "app.sql-stats")
+public class SqlStatsProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Quantidade de execuções do mesmo SELECT em uma requisição a partir da qual um N+1 é reportado
+     */
+    private int repeatedSelectThreshold = 10;
+
+    /**
+     * Razão entidades carregadas / entidades usadas a partir da qual o excesso de leitura é reportado
+     */
+    private double overFetchRatio = 2.0;
+
+    /**
+     * Quantidade mínima de entidades carregadas para avaliar o excesso de leitura
+     */
+    private int overFetchMinLoads = 100;
+
+    /**
+     * Quantidade de requisições recentes mantidas no endpoint sqlstats
+     */
+    private int recentRequests = 50;
+}
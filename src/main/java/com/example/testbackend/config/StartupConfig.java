@@ -0,0 +1,36 @@
+package com.example.testbackend.config;
+
+import com.example.testbackend.repository.MovieStore;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+@Configuration
+@EnableConfigurationProperties(StartupProperties.class)
+public class StartupConfig {
+
+    /**
+     * Com {@code spring.main.lazy-initialization} (perfil fast-start), o armazenamento continua sendo criado na
+     * inicialização: o backend em log relê o arquivo no construtor, e isso deve acontecer antes da prontidão
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerMovieStore() {
+        return LazyInitializationExcludeFilter.forBeanTypes(MovieStore.class);
+    }
+
+    /**
+     * Com repositórios JPA em modo deferred, o Hibernate monta o metamodelo nesta thread enquanto o restante do
+     * contexto (servidor web, actuator) é criado; os repositórios esperam por ele no fim do refresh
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.data.jpa.repositories", name = "bootstrap-mode", havingValue = "deferred")
+    public AsyncTaskExecutor jpaBootstrapExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("jpa-bootstrap-");
+        executor.setDaemon(true);
+        return executor;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.testbackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configurações da inicialização da aplicação
+ */
+@Data
+@ConfigurationProperties(prefix = "app.startup")
+public class StartupProperties {
+
+    /**
+     * Importa os dados iniciais numa thread própria depois que a aplicação fica pronta, em vez de antes
+     */
+    private boolean deferSeed = false;
+}
@@ -0,0 +1,71 @@
+package com.example.testbackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configurações do backend de armazenamento dos filmes
+ */
+@Data
+@ConfigurationProperties(prefix = "app.storage")
+public class StorageProperties {
+
+    /**
+     * Backend de armazenamento: "jpa" (H2 em memória ou em arquivo, conforme o datasource) ou "log"
+     */
+    private String backend = "jpa";
+
+    private LogStore log = new LogStore();
+
+    private OffHeap offHeap = new OffHeap();
+
+    private Compaction compaction = new Compaction();
+
+    @Data
+    public static class LogStore {
+
+        /**
+         * Diretório do arquivo de log append-only
+         */
+        private String directory = "./data/movie-log";
+
+        /**
+         * Força a gravação em disco (fsync) ao final de cada bloco gravado
+         */
+        private boolean fsync = false;
+    }
+
+    @Data
+    public static class OffHeap {
+
+        /**
+         * Mantém uma cópia colunar fora do heap de cada importação para a análise de prêmios
+         */
+        private boolean enabled = false;
+
+        /**
+         * Memória fora do heap total usada pelas importações; acima dela as mais antigas são descartadas. Precisa
+         * ficar abaixo do limite de memória direta da JVM ({@code -XX:MaxDirectMemorySize}, por padrão o -Xmx),
+         * com folga para as páginas das importações em andamento
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(256);
+    }
+
+    @Data
+    public static class Compaction {
+
+        /**
+         * Regrava em segundo plano as vitórias de cada importação concluída em um segmento ordenado por (nome, ano).
+         * Desligada por padrão: a compactação ordena em memória todos os pares (nome, ano) da importação, o que não
+         * combina com os nós de heap pequeno atendidos pela cópia fora do heap e pela análise por cursor.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Diretório base dos segmentos compactados; cada instância usa um subdiretório próprio, removido no
+         * encerramento
+         */
+        private String directory = "./data/compacted";
+    }
+}
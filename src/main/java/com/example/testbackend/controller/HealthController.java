@@ -1,16 +1,19 @@
 package com.example.testbackend.controller;
 
+import com.example.testbackend.health.SaturationHealthIndicator;
 import io.swagger.v3.oas.annotations.Hidden;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.availability.ApplicationAvailability;
 import org.springframework.boot.availability.LivenessState;
 import org.springframework.boot.availability.ReadinessState;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @RestController
@@ -18,48 +21,76 @@ import java.util.Map;
 @Hidden // Ocultar do Swagger pois são endpoints internos do Kubernetes
 public class HealthController {
 
-    private final ApplicationEventPublisher eventPublisher;
+    private static final Map<String, String> LIVE_RESPONSE = Map.of("status", "UP", "check", "liveness");
+    private static final Map<String, String> NOT_LIVE_RESPONSE = Map.of("status", "DOWN", "check", "liveness");
 
-    public HealthController(ApplicationEventPublisher eventPublisher) {
-        this.eventPublisher = eventPublisher;
+    private final ApplicationAvailability applicationAvailability;
+    private final SaturationHealthIndicator saturationHealthIndicator;
+
+    public HealthController(ApplicationAvailability applicationAvailability,
+                            SaturationHealthIndicator saturationHealthIndicator) {
+        this.applicationAvailability = applicationAvailability;
+        this.saturationHealthIndicator = saturationHealthIndicator;
     }
 
+    /**
+     * Liveness não depende da saturação: um pod sobrecarregado deve parar de receber tráfego, não ser reiniciado
+     */
     @GetMapping("/health/live")
     public ResponseEntity<Map<String, String>> liveness() {
         log.debug("Verificação de liveness executada");
 
-        Map<String, String> response = new HashMap<>();
-        response.put("status", "UP");
-        response.put("check", "liveness");
-
-        return ResponseEntity.ok(response);
+        if (applicationAvailability.getLivenessState() == LivenessState.BROKEN) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(NOT_LIVE_RESPONSE);
+        }
+        return ResponseEntity.ok(LIVE_RESPONSE);
     }
 
+    /**
+     * Readiness: pronto só quando o ciclo de vida aceita tráfego (após a inicialização e antes do encerramento)
+     * e nenhuma verificação de saturação indica sobrecarga; caso contrário OUT_OF_SERVICE (503)
+     */
     @GetMapping("/health/ready")
     public ResponseEntity<Map<String, String>> readiness() {
         log.debug("Verificação de readiness executada");
 
-        Map<String, String> response = new HashMap<>();
-        response.put("status", "UP");
-        response.put("check", "readiness");
+        Health saturation = saturationHealthIndicator.health();
+        ReadinessState lifecycle = applicationAvailability.getReadinessState();
+        boolean ready = lifecycle == ReadinessState.ACCEPTING_TRAFFIC && Status.UP.equals(saturation.getStatus());
+        String status = ready ? Status.UP.getCode() : Status.OUT_OF_SERVICE.getCode();
 
-        return ResponseEntity.ok(response);
+        Map<String, String> response = Map.of(
+                "status", status,
+                "check", "readiness",
+                "lifecycle", lifecycle.name(),
+                "saturation", saturation.getStatus().getCode());
+        return ResponseEntity.status(ready ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(response);
     }
 
+    /**
+     * Visão geral; 503 quando o status não é UP, para que balanceadores que só olham o código HTTP o percebam
+     */
     @GetMapping("/health")
     public ResponseEntity<Map<String, Object>> health() {
         log.debug("Verificação geral de health executada");
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("status", "UP");
+        Health saturation = saturationHealthIndicator.health();
+        boolean live = applicationAvailability.getLivenessState() == LivenessState.CORRECT;
+        boolean ready = applicationAvailability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC
+                && Status.UP.equals(saturation.getStatus());
+        Status status = live ? saturation.getStatus() : Status.DOWN;
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("status", status.getCode());
         response.put("application", "test-backend");
         response.put("version", "1.0.0");
 
-        Map<String, String> checks = new HashMap<>();
-        checks.put("liveness", "UP");
-        checks.put("readiness", "UP");
+        Map<String, Object> checks = new LinkedHashMap<>();
+        checks.put("liveness", live ? "UP" : "DOWN");
+        checks.put("readiness", ready ? "UP" : "OUT_OF_SERVICE");
+        checks.put("saturation", saturation.getDetails());
         response.put("checks", checks);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.status(Status.UP.equals(status) ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(response);
     }
 }
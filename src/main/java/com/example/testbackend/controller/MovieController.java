@@ -3,7 +3,13 @@ package com.example.testbackend.controller;
 import com.example.testbackend.controller.api.MovieApi;
 import com.example.testbackend.dto.response.SummarizedAwardsResponse;
 import com.example.testbackend.dto.response.ImportResponse;
+import com.example.testbackend.dto.response.ImportStatusResponse;
+import com.example.testbackend.dto.response.ProducerWinsResponse;
 import com.example.testbackend.service.MovieService;
+import com.example.testbackend.service.awards.AwardDimension;
+import com.example.testbackend.service.importer.ImportArchiveReader;
+import com.example.testbackend.service.importer.ImportFilter;
+import com.example.testbackend.service.importer.ImportMode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
@@ -13,6 +19,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/movies")
 @RequiredArgsConstructor
@@ -21,11 +29,13 @@ import org.springframework.web.multipart.MultipartFile;
 public class MovieController implements MovieApi {
 
     private final MovieService movieService;
+    private final ImportArchiveReader importArchiveReader;
 
     @Override
     @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<ImportResponse> importCsv(MultipartFile file) {
-        log.info("POST /api/v1/movies/import - importando arquivo CSV: {}", file.getOriginalFilename());
+    public ResponseEntity<ImportResponse> importCsv(MultipartFile file, ImportMode mode, boolean winnersOnly,
+                                                    Integer minYear, Integer maxYear) {
+        log.debug("POST /api/v1/movies/import - importando arquivo CSV: {}", file.getOriginalFilename());
 
         if (file.isEmpty()) {
             throw new IllegalArgumentException("Arquivo não pode estar vazio");
@@ -36,16 +46,68 @@ public class MovieController implements MovieApi {
             throw new IllegalArgumentException("Arquivo deve ser do tipo CSV");
         }
 
-        ImportResponse response = movieService.importCsvFile(file);
+        ImportResponse response = movieService.importCsvFile(file, mode, ImportFilter.of(winnersOnly, minYear, maxYear));
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @Override
+    @PostMapping(value = "/import/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportResponse> importCsvBatch(List<MultipartFile> files, ImportMode mode, boolean winnersOnly,
+                                                         Integer minYear, Integer maxYear) {
+        log.debug("POST /api/v1/movies/import/batch - importando {} arquivos", files == null ? 0 : files.size());
+
+        if (files == null || files.isEmpty()) {
+            throw new IllegalArgumentException("Ao menos um arquivo deve ser enviado");
+        }
+
+        for (MultipartFile file : files) {
+            if (file.isEmpty()) {
+                throw new IllegalArgumentException("Arquivo não pode estar vazio: " + file.getOriginalFilename());
+            }
+            if (!importArchiveReader.isSupported(file.getOriginalFilename())) {
+                throw new IllegalArgumentException("Arquivo deve ser do tipo CSV, CSV.GZ ou ZIP: " + file.getOriginalFilename());
+            }
+        }
+
+        ImportResponse response = movieService.importCsvFiles(files, mode, ImportFilter.of(winnersOnly, minYear, maxYear));
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @Override
     @GetMapping("/import/{uuidImport}/awards")
-    public ResponseEntity<SummarizedAwardsResponse> getSummarizedAwards(@PathVariable String uuidImport) {
-        log.info("GET /api/v1/movies/import/{}/awards - obtendo análise de prêmios para UUID: {}", uuidImport, uuidImport);
+    public ResponseEntity<SummarizedAwardsResponse> getSummarizedAwards(@PathVariable String uuidImport, String dimension,
+                                                                        Integer minYear, Integer maxYear) {
+        log.debug("GET /api/v1/movies/import/{}/awards?dimension={} - obtendo análise de prêmios", uuidImport, dimension);
 
-        SummarizedAwardsResponse awards = movieService.getSummarizedAwards(uuidImport);
+        SummarizedAwardsResponse awards = movieService.getSummarizedAwards(
+                uuidImport, AwardDimension.fromParameter(dimension), minYear, maxYear);
         return ResponseEntity.ok(awards);
     }
+
+    @Override
+    @GetMapping("/import/{uuidImport}/status")
+    public ResponseEntity<ImportStatusResponse> getImportStatus(@PathVariable String uuidImport) {
+        log.debug("GET /api/v1/movies/import/{}/status - obtendo situação da importação", uuidImport);
+
+        return ResponseEntity.ok(movieService.getImportStatus(uuidImport));
+    }
+
+    @Override
+    @GetMapping("/import/{uuidImport}/producers/{name}/wins")
+    public ResponseEntity<ProducerWinsResponse> getProducerWins(@PathVariable String uuidImport, @PathVariable String name) {
+        log.debug("GET /api/v1/movies/import/{}/producers/{}/wins - obtendo vitórias do produtor", uuidImport, name);
+
+        return ResponseEntity.ok(movieService.getProducerWins(uuidImport, name));
+    }
+
+    @Override
+    @GetMapping("/import/{uuidImport}/producers")
+    public ResponseEntity<List<ProducerWinsResponse>> searchProducers(String uuidImport, String prefix, int limit) {
+        log.debug("GET /api/v1/movies/import/{}/producers?prefix={} - buscando produtores", uuidImport, prefix);
+
+        if (limit < 1 || limit > 1000) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e 1000");
+        }
+        return ResponseEntity.ok(movieService.searchProducers(uuidImport, prefix, limit));
+    }
 }
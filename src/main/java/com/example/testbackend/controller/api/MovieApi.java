@@ -1,7 +1,10 @@
 package com.example.testbackend.controller.api;
 
 import com.example.testbackend.dto.response.ImportResponse;
+import com.example.testbackend.dto.response.ImportStatusResponse;
+import com.example.testbackend.dto.response.ProducerWinsResponse;
 import com.example.testbackend.dto.response.SummarizedAwardsResponse;
+import com.example.testbackend.service.importer.ImportMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -22,7 +25,9 @@ public interface MovieApi {
     @Operation(
             summary = "Importar arquivo CSV de filmes",
             description = "Importa um arquivo CSV contendo dados de filmes no formato: year;title;studios;producers;winner. " +
-                         "Retorna um UUID único para identificar essa importação específica."
+                         "Retorna um UUID único para identificar essa importação específica. " +
+                         "No modo LENIENT, linhas inválidas são ignoradas e descritas no campo errors da resposta. " +
+                         "Os filtros winnersOnly, minYear e maxYear descartam linhas durante a leitura, antes de criar os filmes."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -35,7 +40,7 @@ public interface MovieApi {
             ),
             @ApiResponse(
                     responseCode = "400",
-                    description = "Erro de validação - arquivo vazio ou formato inválido"
+                    description = "Erro de validação - arquivo vazio, formato inválido ou intervalo de anos inválido"
             ),
             @ApiResponse(
                     responseCode = "500",
@@ -48,14 +53,71 @@ public interface MovieApi {
                     required = true,
                     content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE)
             )
-            @RequestParam("file") MultipartFile file
+            @RequestParam("file") MultipartFile file,
+            @Parameter(
+                    description = "Modo de importação: STRICT cancela tudo na primeira linha inválida, " +
+                            "LENIENT ignora linhas inválidas e as reporta na resposta"
+            )
+            @RequestParam(value = "mode", defaultValue = "STRICT") ImportMode mode,
+            @Parameter(description = "Grava apenas os filmes vencedores")
+            @RequestParam(value = "winnersOnly", defaultValue = "false") boolean winnersOnly,
+            @Parameter(description = "Grava apenas filmes a partir deste ano (inclusive)", example = "1990")
+            @RequestParam(value = "minYear", required = false) Integer minYear,
+            @Parameter(description = "Grava apenas filmes até este ano (inclusive)", example = "2000")
+            @RequestParam(value = "maxYear", required = false) Integer maxYear
+    );
+
+    @Operation(
+            summary = "Importar vários arquivos de filmes em lote",
+            description = "Importa vários arquivos CSV, CSV compactados com gzip (.csv.gz) ou arquivos ZIP contendo CSVs. " +
+                         "Os arquivos são descompactados em fluxo e processados em paralelo, todos sob um único UUID de importação. " +
+                         "A resposta informa a quantidade de filmes importados por arquivo."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Arquivos importados com sucesso",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ImportResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Erro de validação - nenhum arquivo, arquivo vazio ou formato inválido"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Erro interno do servidor durante o processamento dos arquivos"
+            )
+    })
+    ResponseEntity<ImportResponse> importCsvBatch(
+            @Parameter(
+                    description = "Arquivos CSV, CSV.GZ ou ZIP contendo dados dos filmes",
+                    required = true,
+                    content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE)
+            )
+            @RequestParam("files") List<MultipartFile> files,
+            @Parameter(
+                    description = "Modo de importação: STRICT cancela tudo na primeira linha inválida, " +
+                            "LENIENT ignora linhas inválidas e as reporta na resposta"
+            )
+            @RequestParam(value = "mode", defaultValue = "STRICT") ImportMode mode,
+            @Parameter(description = "Grava apenas os filmes vencedores")
+            @RequestParam(value = "winnersOnly", defaultValue = "false") boolean winnersOnly,
+            @Parameter(description = "Grava apenas filmes a partir deste ano (inclusive)", example = "1990")
+            @RequestParam(value = "minYear", required = false) Integer minYear,
+            @Parameter(description = "Grava apenas filmes até este ano (inclusive)", example = "2000")
+            @RequestParam(value = "maxYear", required = false) Integer maxYear
     );
 
     @Operation(
             summary = "Análise de intervalos entre prêmios",
             description = "Analisa os produtores com maior e menor intervalo entre dois prêmios consecutivos " +
                     "baseado nos dados de uma importação específica. Retorna os produtores que ganharam " +
-                    "prêmios com o menor intervalo (mais rápido) e maior intervalo (maior lacuna) entre vitórias."
+                    "prêmios com o menor intervalo (mais rápido) e maior intervalo (maior lacuna) entre vitórias. " +
+                    "Com dimension=studios, a mesma análise é feita por estúdio. " +
+                    "minYear e maxYear restringem as vitórias consideradas e são aplicados na consulta ao armazenamento."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -72,7 +134,7 @@ public interface MovieApi {
             ),
             @ApiResponse(
                     responseCode = "400",
-                    description = "UUID inválido fornecido"
+                    description = "UUID, dimensão ou intervalo de anos inválidos"
             )
     })
     ResponseEntity<SummarizedAwardsResponse> getSummarizedAwards(
@@ -81,7 +143,101 @@ public interface MovieApi {
                     required = true,
                     example = "550e8400-e29b-41d4-a716-446655440000"
             )
+            @PathVariable String uuidImport,
+            @Parameter(description = "Dimensão analisada: producers ou studios", example = "producers")
+            @RequestParam(value = "dimension", defaultValue = "producers") String dimension,
+            @Parameter(description = "Considera apenas vitórias a partir deste ano (inclusive)", example = "1990")
+            @RequestParam(value = "minYear", required = false) Integer minYear,
+            @Parameter(description = "Considera apenas vitórias até este ano (inclusive)", example = "2000")
+            @RequestParam(value = "maxYear", required = false) Integer maxYear
+    );
+
+    @Operation(
+            summary = "Situação da importação",
+            description = "Retorna o andamento da compactação em segundo plano da importação. Enquanto ela não termina, " +
+                    "a análise de prêmios lê do armazenamento; depois, do segmento ordenado por (nome, ano)."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Situação da importação retornada com sucesso",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ImportStatusResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "UUID de importação não encontrado"
+            )
+    })
+    ResponseEntity<ImportStatusResponse> getImportStatus(
+            @Parameter(
+                    description = "UUID da importação",
+                    required = true,
+                    example = "550e8400-e29b-41d4-a716-446655440000"
+            )
             @PathVariable String uuidImport
     );
 
+    @Operation(
+            summary = "Vitórias de um produtor",
+            description = "Retorna os anos em que o produtor venceu na importação informada. O nome é comparado " +
+                    "sem distinção de maiúsculas e acentos, usando o índice de produtores montado na importação."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Vitórias do produtor retornadas com sucesso",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ProducerWinsResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "UUID de importação não encontrado ou produtor sem vitórias"
+            )
+    })
+    ResponseEntity<ProducerWinsResponse> getProducerWins(
+            @Parameter(
+                    description = "UUID da importação",
+                    required = true,
+                    example = "550e8400-e29b-41d4-a716-446655440000"
+            )
+            @PathVariable String uuidImport,
+            @Parameter(description = "Nome do produtor", required = true, example = "Joel Silver")
+            @PathVariable String name
+    );
+
+    @Operation(
+            summary = "Buscar produtores por prefixo",
+            description = "Lista, em ordem alfabética, os produtores vencedores da importação cujo nome começa com o prefixo informado."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Produtores encontrados"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Limite inválido"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "UUID de importação não encontrado"
+            )
+    })
+    ResponseEntity<List<ProducerWinsResponse>> searchProducers(
+            @Parameter(
+                    description = "UUID da importação",
+                    required = true,
+                    example = "550e8400-e29b-41d4-a716-446655440000"
+            )
+            @PathVariable String uuidImport,
+            @Parameter(description = "Prefixo do nome do produtor", example = "Jo")
+            @RequestParam(value = "prefix", defaultValue = "") String prefix,
+            @Parameter(description = "Quantidade máxima de produtores retornados", example = "20")
+            @RequestParam(value = "limit", defaultValue = "20") int limit
+    );
 }
@@ -0,0 +1,26 @@
+package com.example.testbackend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resumo dos erros de linha de uma importação no modo LENIENT")
+public class ImportErrorSummaryResponse {
+
+    @Schema(description = "Quantidade total de linhas rejeitadas", example = "3")
+    private Integer totalErrors;
+
+    @Schema(description = "Indica se a lista de erros foi truncada pelo limite configurado", example = "false")
+    private Boolean truncated;
+
+    @Schema(description = "Erros detalhados, limitados por app.import.max-reported-errors")
+    private List<ImportRowErrorResponse> errors;
+}
@@ -1,13 +1,17 @@
 package com.example.testbackend.dto.response;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 @Schema(description = "Resposta da importação de arquivo CSV")
 public class ImportResponse {
 
@@ -17,8 +21,18 @@ public class ImportResponse {
     )
     private String uuidImported;
 
-    @JsonCreator
-    public ImportResponse(@JsonProperty("uuidImported") String uuidImported) {
-        this.uuidImported = uuidImported;
-    }
+    @Schema(description = "Quantidade total de filmes importados", example = "206")
+    private Integer importedRows;
+
+    @Schema(description = "Quantidade total de linhas inválidas ignoradas no modo LENIENT", example = "0")
+    private Integer skippedRows;
+
+    @Schema(description = "Quantidade total de linhas descartadas pelos filtros da importação (winnersOnly, minYear, maxYear)", example = "0")
+    private Integer filteredRows;
+
+    @Schema(description = "Quantidade de filmes importados por arquivo (ou entrada de arquivo compactado)")
+    private List<ImportedFileResponse> files;
+
+    @Schema(description = "Resumo dos erros de linha, presente apenas quando houver linhas rejeitadas")
+    private ImportErrorSummaryResponse errors;
 }
@@ -0,0 +1,27 @@
+package com.example.testbackend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Erro encontrado em uma linha do arquivo importado")
+public class ImportRowErrorResponse {
+
+    @Schema(description = "Nome do arquivo ou da entrada dentro do arquivo compactado", example = "movielist.csv")
+    private String fileName;
+
+    @Schema(description = "Número da linha no arquivo (a linha 1 é o cabeçalho, quando existir)", example = "42")
+    private Long line;
+
+    @Schema(description = "Coluna que causou o erro, quando identificável", example = "year")
+    private String column;
+
+    @Schema(description = "Motivo do erro", example = "Ano deve ser um número válido: 19x0")
+    private String reason;
+}
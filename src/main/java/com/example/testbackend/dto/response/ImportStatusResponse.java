@@ -0,0 +1,34 @@
+package com.example.testbackend.dto.response;
+
+import com.example.testbackend.service.compaction.CompactionState;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Situação de uma importação e da sua compactação para leitura")
+public class ImportStatusResponse {
+
+    @Schema(description = "UUID da importação", example = "550e8400-e29b-41d4-a716-446655440000")
+    private String uuidImported;
+
+    @Schema(description = "Situação da compactação: DISABLED, PENDING, RUNNING, COMPLETED ou FAILED", example = "COMPLETED")
+    private CompactionState compaction;
+
+    @Schema(description = "Vitórias já processadas pela compactação", example = "42")
+    private Integer compactedRows;
+
+    @Schema(description = "Total de vitórias a compactar (conhecido após o início da compactação)", example = "42")
+    private Integer totalRows;
+
+    @Schema(description = "Andamento da compactação, de 0 a 100", example = "100.0")
+    private Double progressPercent;
+
+    @Schema(description = "Tamanho do segmento compactado, em bytes", example = "2048")
+    private Long segmentBytes;
+}
@@ -0,0 +1,27 @@
+package com.example.testbackend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado da importação de um arquivo CSV individual")
+public class ImportedFileResponse {
+
+    @Schema(description = "Nome do arquivo ou da entrada dentro do arquivo compactado", example = "movies.zip!/1990.csv")
+    private String fileName;
+
+    @Schema(description = "Quantidade de filmes importados do arquivo", example = "42")
+    private Integer rows;
+
+    @Schema(description = "Quantidade de linhas inválidas ignoradas no modo LENIENT", example = "0")
+    private Integer skippedRows;
+
+    @Schema(description = "Quantidade de linhas descartadas pelos filtros da importação", example = "0")
+    private Integer filteredRows;
+}
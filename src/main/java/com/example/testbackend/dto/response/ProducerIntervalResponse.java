@@ -1,17 +1,23 @@
 package com.example.testbackend.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
-@Schema(description = "Informações sobre o intervalo entre prêmios consecutivos de um produtor")
+@Schema(description = "Informações sobre o intervalo entre prêmios consecutivos de um produtor ou estúdio")
 public class ProducerIntervalResponse {
 
-    @Schema(description = "Nome do produtor", example = "Joel Silver")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Nome do produtor (análise por produtores)", example = "Joel Silver")
     private String producer;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Nome do estúdio (análise por estúdios)", example = "Columbia Pictures")
+    private String studio;
+
     @Schema(description = "Intervalo em anos entre os dois prêmios", example = "1")
     private Integer interval;
 
@@ -0,0 +1,22 @@
+package com.example.testbackend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@Schema(description = "Vitórias de um produtor em uma importação")
+public class ProducerWinsResponse {
+
+    @Schema(description = "Nome canônico do produtor", example = "Joel Silver")
+    private String producer;
+
+    @Schema(description = "Quantidade de anos com vitória", example = "2")
+    private Integer wins;
+
+    @Schema(description = "Anos das vitórias em ordem crescente", example = "[1990, 1991]")
+    private List<Integer> years;
+}
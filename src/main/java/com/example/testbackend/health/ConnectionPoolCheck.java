@@ -0,0 +1,59 @@
+package com.example.testbackend.health;
+
+import com.example.testbackend.config.HealthProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Uso do pool Hikari: conexões ativas, ociosas e threads aguardando conexão
+ */
+@Component
+@RequiredArgsConstructor
+public class ConnectionPoolCheck implements SaturationCheck {
+
+    private final DataSource dataSource;
+    private final HealthProperties properties;
+
+    @Override
+    public String name() {
+        return "connectionPool";
+    }
+
+    @Override
+    public Health check() {
+        HikariDataSource hikari;
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return Health.unknown().withDetail("reason", "Pool de conexões não é Hikari").build();
+            }
+            hikari = dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            return Health.unknown().withException(e).build();
+        }
+
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null) {
+            return Health.unknown().withDetail("reason", "Pool ainda não iniciado").build();
+        }
+
+        int maximum = hikari.getMaximumPoolSize();
+        int active = pool.getActiveConnections();
+        int waiting = pool.getThreadsAwaitingConnection();
+        double usage = maximum == 0 ? 0.0 : (double) active / maximum;
+        boolean overloaded = usage >= properties.getPoolUsageOverload() && waiting > 0;
+
+        return (overloaded ? Health.outOfService() : Health.up())
+                .withDetail("active", active)
+                .withDetail("idle", pool.getIdleConnections())
+                .withDetail("maximum", maximum)
+                .withDetail("threadsAwaitingConnection", waiting)
+                .withDetail("usage", Math.round(usage * 100.0) / 100.0)
+                .build();
+    }
+}
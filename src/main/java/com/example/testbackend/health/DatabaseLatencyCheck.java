@@ -0,0 +1,122 @@
+package com.example.testbackend.health;
+
+import com.example.testbackend.config.HealthProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Mede a latência de ida e volta ao banco com um {@code SELECT 1}. A sonda usa uma conexão própria, aberta
+ * com a URL e as credenciais do pool Hikari, em vez de emprestar uma do pool: com o pool esgotado, o empréstimo
+ * ficaria bloqueado pelo connection-timeout inteiro justamente quando a verificação mais importa (a saturação
+ * do pool é medida por {@link ConnectionPoolCheck}). A consulta é limitada por {@code app.health.db-probe-timeout}
+ * e uma sonda que não termina a tempo conta como DOWN.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseLatencyCheck implements SaturationCheck {
+
+    private final DataSource dataSource;
+    private final HealthProperties properties;
+    private final ReentrantLock probeLock = new ReentrantLock();
+    private Connection probeConnection;
+
+    @Override
+    public String name() {
+        return "database";
+    }
+
+    @Override
+    public Health check() {
+        Duration timeout = properties.getDbProbeTimeout();
+        try {
+            if (!probeLock.tryLock(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                return Health.down().withDetail("reason", "Sonda anterior ainda em andamento")
+                        .withDetail("timeoutMs", timeout.toMillis())
+                        .build();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Health.down(e).build();
+        }
+
+        Duration latency;
+        try {
+            long start = System.nanoTime();
+            probe(timeout);
+            latency = Duration.ofNanos(System.nanoTime() - start);
+        } catch (Exception e) {
+            closeProbeConnection();
+            return Health.down(e).withDetail("timeoutMs", timeout.toMillis()).build();
+        } finally {
+            probeLock.unlock();
+        }
+
+        Health.Builder builder = latency.compareTo(properties.getDbLatencyOverload()) > 0 ? Health.outOfService() : Health.up();
+        return builder
+                .withDetail("latencyMs", latency.toNanos() / 1e6)
+                .withDetail("overloadMs", properties.getDbLatencyOverload().toMillis())
+                .build();
+    }
+
+    @PreDestroy
+    public void close() {
+        probeLock.lock();
+        try {
+            closeProbeConnection();
+        } finally {
+            probeLock.unlock();
+        }
+    }
+
+    private void probe(Duration timeout) throws SQLException {
+        // O JDBC só aceita timeouts em segundos inteiros; zero significaria sem limite
+        int timeoutSeconds = (int) Math.max(1, (timeout.toMillis() + 999) / 1000);
+        Connection connection = probeConnection();
+        if (!connection.isValid(timeoutSeconds)) {
+            throw new SQLException("Conexão de sonda inválida após " + timeoutSeconds + "s");
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(timeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery("SELECT 1")) {
+                resultSet.next();
+            }
+        }
+    }
+
+    private Connection probeConnection() throws SQLException {
+        if (probeConnection == null) {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                throw new SQLException("Pool de conexões não é Hikari; sem URL para a conexão de sonda");
+            }
+            HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+            probeConnection = DriverManager.getConnection(hikari.getJdbcUrl(), hikari.getUsername(), hikari.getPassword());
+        }
+        return probeConnection;
+    }
+
+    private void closeProbeConnection() {
+        if (probeConnection == null) {
+            return;
+        }
+        try {
+            probeConnection.close();
+        } catch (SQLException ignored) {
+            // A conexão já está sendo descartada
+        } finally {
+            probeConnection = null;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.testbackend.health;
+
+import com.example.testbackend.config.HealthProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+
+/**
+ * Folga do heap medida após a última coleta de cada pool, para não confundir lixo ainda não coletado com
+ * memória realmente retida; sem essa informação, usa a ocupação atual
+ */
+@Component
+@RequiredArgsConstructor
+public class HeapHeadroomCheck implements SaturationCheck {
+
+    private final HealthProperties properties;
+
+    @Override
+    public String name() {
+        return "heap";
+    }
+
+    @Override
+    public Health check() {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        long max = heap.getMax() > 0 ? heap.getMax() : heap.getCommitted();
+
+        long retained = 0;
+        boolean collectionUsageAvailable = false;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage collectionUsage = pool.getType() == MemoryType.HEAP ? pool.getCollectionUsage() : null;
+            if (collectionUsage != null) {
+                retained += collectionUsage.getUsed();
+                collectionUsageAvailable = true;
+            }
+        }
+        if (!collectionUsageAvailable) {
+            retained = heap.getUsed();
+        }
+
+        double headroom = max <= 0 ? 1.0 : 1.0 - (double) retained / max;
+        return (headroom < properties.getMinHeapHeadroom() ? Health.outOfService() : Health.up())
+                .withDetail("usedMb", heap.getUsed() / (1024 * 1024))
+                .withDetail("retainedAfterGcMb", retained / (1024 * 1024))
+                .withDetail("maxMb", max / (1024 * 1024))
+                .withDetail("headroom", Math.round(headroom * 100.0) / 100.0)
+                .build();
+    }
+}
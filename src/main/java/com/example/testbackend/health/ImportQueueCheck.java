@@ -0,0 +1,49 @@
+package com.example.testbackend.health;
+
+import com.example.testbackend.admission.ImportConcurrencyLimiter;
+import com.example.testbackend.config.HealthProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Importações em andamento e na fila: fila do controle de admissão e fila do executor de importação em lote
+ */
+@Component
+public class ImportQueueCheck implements SaturationCheck {
+
+    private final ImportConcurrencyLimiter importConcurrencyLimiter;
+    private final ExecutorService importExecutor;
+    private final HealthProperties properties;
+
+    public ImportQueueCheck(ImportConcurrencyLimiter importConcurrencyLimiter,
+                            @Qualifier("importExecutor") ExecutorService importExecutor,
+                            HealthProperties properties) {
+        this.importConcurrencyLimiter = importConcurrencyLimiter;
+        this.importExecutor = importExecutor;
+        this.properties = properties;
+    }
+
+    @Override
+    public String name() {
+        return "importQueue";
+    }
+
+    @Override
+    public Health check() {
+        int queueDepth = importConcurrencyLimiter.queueDepth();
+        Health.Builder builder = queueDepth >= properties.getImportQueueOverload() ? Health.outOfService() : Health.up();
+        builder.withDetail("queueDepth", queueDepth)
+                .withDetail("inFlightWeight", importConcurrencyLimiter.inFlightWeight())
+                .withDetail("overloadQueueDepth", properties.getImportQueueOverload());
+
+        if (importExecutor instanceof ThreadPoolExecutor threadPoolExecutor) {
+            builder.withDetail("executorActive", threadPoolExecutor.getActiveCount())
+                    .withDetail("executorQueued", threadPoolExecutor.getQueue().size());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.testbackend.health;
+
+import org.springframework.boot.actuate.health.Health;
+
+/**
+ * Verificação individual de saturação. Retorna UP, OUT_OF_SERVICE (sobrecarga) ou DOWN (falha), com detalhes.
+ */
+public interface SaturationCheck {
+
+    String name();
+
+    Health check();
+}
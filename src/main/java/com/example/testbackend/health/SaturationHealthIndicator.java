@@ -0,0 +1,93 @@
+package com.example.testbackend.health;
+
+import com.example.testbackend.config.HealthProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Agrega as verificações de saturação (banco, pool, fila de importação e heap) em um único indicador
+ * ("saturation"), com o resultado reaproveitado por {@code app.health.cache-ttl}: sondagens frequentes apenas
+ * leem o último resultado. É apenas uma contribuição de saúde: não altera o estado de prontidão do ciclo de vida
+ * da aplicação, que continua sendo controlado pelo Spring (inicialização e encerramento). A prontidão exposta
+ * (grupo {@code readiness} do actuator e {@code /health/ready}) combina os dois.
+ */
+@Component
+@Slf4j
+public class SaturationHealthIndicator implements HealthIndicator {
+
+    private final List<SaturationCheck> checks;
+    private final HealthProperties properties;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile CachedHealth cached;
+    private volatile Status lastStatus = Status.UP;
+
+    public SaturationHealthIndicator(List<SaturationCheck> checks, HealthProperties properties) {
+        this.checks = checks;
+        this.properties = properties;
+    }
+
+    @Override
+    public Health health() {
+        CachedHealth current = cached;
+        long now = System.nanoTime();
+        if (current != null && now - current.checkedAt() < properties.getCacheTtl().toNanos()) {
+            return current.health();
+        }
+        // Apenas uma thread recalcula; as demais usam o resultado anterior enquanto isso
+        if (current != null && !refreshing.compareAndSet(false, true)) {
+            return current.health();
+        }
+        try {
+            Health health = evaluate();
+            cached = new CachedHealth(health, System.nanoTime());
+            logTransition(health.getStatus());
+            return health;
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private Health evaluate() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        Status status = Status.UP;
+        for (SaturationCheck check : checks) {
+            Health health;
+            try {
+                health = check.check();
+            } catch (RuntimeException e) {
+                health = Health.down(e).build();
+            }
+            details.put(check.name(), health);
+            status = worst(status, health.getStatus());
+        }
+        return Health.status(status).withDetails(details).build();
+    }
+
+    private void logTransition(Status status) {
+        if (!status.equals(lastStatus)) {
+            log.warn("Saturação alterada de {} para {}", lastStatus, status);
+            lastStatus = status;
+        }
+    }
+
+    private static Status worst(Status current, Status candidate) {
+        if (Status.DOWN.equals(current) || Status.DOWN.equals(candidate)) {
+            return Status.DOWN;
+        }
+        if (Status.OUT_OF_SERVICE.equals(current) || Status.OUT_OF_SERVICE.equals(candidate)) {
+            return Status.OUT_OF_SERVICE;
+        }
+        return current;
+    }
+
+    private record CachedHealth(Health health, long checkedAt) {
+    }
+}
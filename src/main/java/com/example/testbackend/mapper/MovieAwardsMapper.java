@@ -5,12 +5,21 @@ import com.example.testbackend.dto.response.SummarizedAwardsResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Comparator;
 import java.util.List;
 
 @Component
 @Slf4j
 public class MovieAwardsMapper {
 
+    /**
+     * Ordem dos empates na resposta; independe de onde a análise leu as vitórias (armazenamento, cópia fora do
+     * heap, segmento compactado ou cursor)
+     */
+    private static final Comparator<ProducerIntervalResponse> TIE_ORDER = Comparator
+            .comparing(ProducerIntervalResponse::getProducer)
+            .thenComparing(ProducerIntervalResponse::getPreviousWin);
+
     /**
      * Cria uma resposta vazia quando não há dados para análise
      */
@@ -31,9 +40,17 @@ public class MovieAwardsMapper {
         List<ProducerIntervalResponse> minIntervals = filterIntervalsByValue(allIntervals, minInterval);
         List<ProducerIntervalResponse> maxIntervals = filterIntervalsByValue(allIntervals, maxInterval);
 
+        return buildSummarizedResponse(minIntervals, maxIntervals);
+    }
+
+    /**
+     * Constrói a resposta final a partir dos empates de menor e maior intervalo já separados
+     */
+    public SummarizedAwardsResponse buildSummarizedResponse(List<ProducerIntervalResponse> minIntervals,
+                                                            List<ProducerIntervalResponse> maxIntervals) {
         return SummarizedAwardsResponse.builder()
-                .min(minIntervals)
-                .max(maxIntervals)
+                .min(minIntervals.stream().sorted(TIE_ORDER).toList())
+                .max(maxIntervals.stream().sorted(TIE_ORDER).toList())
                 .build();
     }
 
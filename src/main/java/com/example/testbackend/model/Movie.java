@@ -1,5 +1,6 @@
 package com.example.testbackend.model;
 
+import com.example.testbackend.monitoring.SqlStatsEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -12,7 +13,9 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "movies")
+// Cobre as leituras por importação (vitórias filtradas por ano e ordenadas por ano, existência, exclusão)
+@Table(name = "movies", indexes = @Index(name = "idx_movies_import_winner_year", columnList = "import_uuid, winner, `year`"))
+@EntityListeners(SqlStatsEntityListener.class)
 @Data
 @Builder
 @NoArgsConstructor
@@ -20,7 +23,8 @@ import java.time.LocalDateTime;
 public class Movie {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "movies_seq")
+    @SequenceGenerator(name = "movies_seq", sequenceName = "movies_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "Ano é obrigatório")
@@ -42,7 +46,7 @@ public class Movie {
     private Boolean winner = false;
 
     @NotBlank(message = "UUID de importação é obrigatório")
-    @Column(nullable = false, length = 64)
+    @Column(name = "import_uuid", nullable = false, length = 64)
     private String importUuid;
 
     @CreationTimestamp
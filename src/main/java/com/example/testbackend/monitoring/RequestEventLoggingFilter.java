@@ -0,0 +1,67 @@
+package com.example.testbackend.monitoring;
+
+import com.example.testbackend.config.RequestEventLoggingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Emite um único evento de log estruturado (chave=valor) por requisição, amostrado por
+ * {@code app.logging.request-events.sample-rate}. Requisições lentas e com erro são sempre registradas.
+ * A decisão de amostragem é tomada antes de montar a mensagem, então requisições descartadas não alocam nada.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(prefix = "app.logging.request-events", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RequestEventLoggingFilter extends OncePerRequestFilter {
+
+    private static final Logger EVENTS = LoggerFactory.getLogger("request.events");
+
+    private final RequestEventLoggingProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator") || request.getRequestURI().startsWith("/health");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long durationMs = (System.nanoTime() - start) / 1_000_000;
+            int status = response.getStatus();
+            if (shouldLog(durationMs, status)) {
+                EVENTS.info("event=http_request method={} path={} status={} durationMs={} sampled={}",
+                        request.getMethod(), request.getRequestURI(), status, durationMs,
+                        durationMs < properties.getSlowThresholdMs() && status < 500);
+            }
+        }
+    }
+
+    private boolean shouldLog(long durationMs, int status) {
+        if (!EVENTS.isInfoEnabled()) {
+            return false;
+        }
+        if (status >= 500 || durationMs >= properties.getSlowThresholdMs()) {
+            return true;
+        }
+        double sampleRate = properties.getSampleRate();
+        return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+}
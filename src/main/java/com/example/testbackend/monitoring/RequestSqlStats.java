@@ -0,0 +1,137 @@
+package com.example.testbackend.monitoring;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Contadores SQL da requisição em andamento na thread atual. Alimentado pelo {@link SqlStatsStatementInspector},
+ * pelo {@link SqlStatsSessionEventListener} e pelo {@link SqlStatsEntityListener}. Tarefas que a requisição
+ * entrega a outras threads (arquivos da importação em lote, gravadores do modo CONCURRENT) passam por
+ * {@link #propagate(Callable)}, então as gravações feitas nelas também contam; por isso os contadores são
+ * atualizados sob a trava da instância.
+ */
+@Getter
+public class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int selects;
+    private int inserts;
+    private int updates;
+    private int deletes;
+    private int batches;
+    private int flushes;
+    private int flushedEntities;
+    private int entityLoads;
+    private int usedEntities = -1;
+    private final Map<String, Integer> selectsByShape = new HashMap<>();
+
+    public static RequestSqlStats begin() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Estatísticas da requisição atual, ou {@code null} fora de uma requisição monitorada
+     */
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Tarefa que, executada em outra thread, conta as suas consultas nas estatísticas da requisição atual; fora de
+     * uma requisição monitorada, a tarefa é devolvida como está. A requisição aguarda as tarefas antes de terminar,
+     * então os contadores estão completos quando são registrados.
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            RequestSqlStats previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    public static Runnable propagate(Runnable task) {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            RequestSqlStats previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Informa quantas das entidades carregadas foram efetivamente usadas, para a detecção de excesso de leitura
+     */
+    public static void recordUsedEntities(int count) {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.usedEntitiesAdded(count);
+        }
+    }
+
+    private static void restore(RequestSqlStats previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    private synchronized void usedEntitiesAdded(int count) {
+        usedEntities = Math.max(usedEntities, 0) + count;
+    }
+
+    synchronized void statementPrepared(String sql) {
+        statements++;
+        String normalized = sql.stripLeading().toLowerCase(Locale.ROOT);
+        if (normalized.startsWith("select")) {
+            selects++;
+            selectsByShape.merge(sql, 1, Integer::sum);
+        } else if (normalized.startsWith("insert")) {
+            inserts++;
+        } else if (normalized.startsWith("update")) {
+            updates++;
+        } else if (normalized.startsWith("delete")) {
+            deletes++;
+        }
+    }
+
+    synchronized void batchExecuted() {
+        batches++;
+    }
+
+    synchronized void flushed(int numberOfEntities) {
+        flushes++;
+        flushedEntities += numberOfEntities;
+    }
+
+    synchronized void entityLoaded() {
+        entityLoads++;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.testbackend.monitoring;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Estatísticas SQL consolidadas de uma requisição concluída
+ */
+@Value
+@Builder
+public class RequestSqlStatsSnapshot {
+    LocalDateTime timestamp;
+    String method;
+    String path;
+    int statements;
+    int selects;
+    int inserts;
+    int updates;
+    int deletes;
+    int batches;
+    int flushes;
+    int flushedEntities;
+    int entityLoads;
+    Integer usedEntities;
+    List<String> warnings;
+}
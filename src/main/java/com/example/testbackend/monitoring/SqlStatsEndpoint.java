@@ -0,0 +1,54 @@
+package com.example.testbackend.monitoring;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Endpoint /actuator/sqlstats: estatísticas globais do Hibernate e contadores SQL das requisições recentes
+ */
+@Component
+@Endpoint(id = "sqlstats")
+@RequiredArgsConstructor
+public class SqlStatsEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final SqlStatsRegistry sqlStatsRegistry;
+
+    @ReadOperation
+    public Map<String, Object> sqlStats() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("hibernate", hibernateStatistics());
+        response.put("repeatedSelectDetections", sqlStatsRegistry.getRepeatedSelectDetections());
+        response.put("overFetchDetections", sqlStatsRegistry.getOverFetchDetections());
+        response.put("recentRequests", sqlStatsRegistry.getRecentRequests());
+        return response;
+    }
+
+    private Map<String, Object> hibernateStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Object> hibernate = new LinkedHashMap<>();
+        hibernate.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        if (statistics.isStatisticsEnabled()) {
+            hibernate.put("prepareStatementCount", statistics.getPrepareStatementCount());
+            hibernate.put("queryExecutionCount", statistics.getQueryExecutionCount());
+            hibernate.put("queryExecutionMaxTimeMs", statistics.getQueryExecutionMaxTime());
+            hibernate.put("queryExecutionMaxTimeQuery", statistics.getQueryExecutionMaxTimeQueryString());
+            hibernate.put("entityLoadCount", statistics.getEntityLoadCount());
+            hibernate.put("entityFetchCount", statistics.getEntityFetchCount());
+            hibernate.put("entityInsertCount", statistics.getEntityInsertCount());
+            hibernate.put("flushCount", statistics.getFlushCount());
+            hibernate.put("transactionCount", statistics.getTransactionCount());
+            hibernate.put("connectCount", statistics.getConnectCount());
+        }
+        return hibernate;
+    }
+}
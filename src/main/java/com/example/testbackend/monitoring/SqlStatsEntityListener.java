@@ -0,0 +1,17 @@
+package com.example.testbackend.monitoring;
+
+import jakarta.persistence.PostLoad;
+
+/**
+ * Conta as entidades carregadas (hidratadas) na requisição atual
+ */
+public class SqlStatsEntityListener {
+
+    @PostLoad
+    public void postLoad(Object entity) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            stats.entityLoaded();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.testbackend.monitoring;
+
+import com.example.testbackend.config.SqlStatsProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Guarda as estatísticas SQL das requisições recentes e aplica a detecção de N+1 e de excesso de leitura
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SqlStatsRegistry {
+
+    private final SqlStatsProperties properties;
+    private final Deque<RequestSqlStatsSnapshot> recentRequests = new ArrayDeque<>();
+    private final AtomicLong repeatedSelectDetections = new AtomicLong();
+    private final AtomicLong overFetchDetections = new AtomicLong();
+
+    public RequestSqlStatsSnapshot record(String method, String path, RequestSqlStats stats) {
+        List<String> warnings = detectProblems(stats);
+
+        RequestSqlStatsSnapshot snapshot = RequestSqlStatsSnapshot.builder()
+                .timestamp(LocalDateTime.now())
+                .method(method)
+                .path(path)
+                .statements(stats.getStatements())
+                .selects(stats.getSelects())
+                .inserts(stats.getInserts())
+                .updates(stats.getUpdates())
+                .deletes(stats.getDeletes())
+                .batches(stats.getBatches())
+                .flushes(stats.getFlushes())
+                .flushedEntities(stats.getFlushedEntities())
+                .entityLoads(stats.getEntityLoads())
+                .usedEntities(stats.getUsedEntities() < 0 ? null : stats.getUsedEntities())
+                .warnings(warnings)
+                .build();
+
+        synchronized (recentRequests) {
+            recentRequests.addFirst(snapshot);
+            while (recentRequests.size() > properties.getRecentRequests()) {
+                recentRequests.removeLast();
+            }
+        }
+
+        if (!warnings.isEmpty()) {
+            log.warn("Problemas de acesso a dados em {} {}: {}", method, path, warnings);
+        }
+        return snapshot;
+    }
+
+    public List<RequestSqlStatsSnapshot> getRecentRequests() {
+        synchronized (recentRequests) {
+            return new ArrayList<>(recentRequests);
+        }
+    }
+
+    public long getRepeatedSelectDetections() {
+        return repeatedSelectDetections.get();
+    }
+
+    public long getOverFetchDetections() {
+        return overFetchDetections.get();
+    }
+
+    private List<String> detectProblems(RequestSqlStats stats) {
+        List<String> warnings = new ArrayList<>();
+
+        stats.getSelectsByShape().forEach((sql, count) -> {
+            if (count >= properties.getRepeatedSelectThreshold()) {
+                repeatedSelectDetections.incrementAndGet();
+                warnings.add("Possível N+1: SELECT executado " + count + " vezes: " + sql);
+            }
+        });
+
+        int usedEntities = stats.getUsedEntities();
+        if (usedEntities >= 0 && stats.getEntityLoads() >= properties.getOverFetchMinLoads()
+                && stats.getEntityLoads() > usedEntities * properties.getOverFetchRatio()) {
+            overFetchDetections.incrementAndGet();
+            warnings.add("Excesso de leitura: " + stats.getEntityLoads() + " entidades carregadas, "
+                    + usedEntities + " usadas");
+        }
+        return warnings;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.testbackend.monitoring;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Conta batches JDBC e flushes das sessões abertas na requisição atual.
+ * Registrado em {@code spring.jpa.properties.hibernate.session.events.auto}.
+ */
+public class SqlStatsSessionEventListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            stats.batchExecuted();
+        }
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            stats.flushed(numberOfEntities);
+        }
+    }
+}
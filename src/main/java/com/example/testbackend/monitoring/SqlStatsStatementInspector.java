@@ -0,0 +1,19 @@
+package com.example.testbackend.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Conta os comandos SQL preparados pelo Hibernate na requisição atual.
+ * Registrado em {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ */
+public class SqlStatsStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            stats.statementPrepared(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.testbackend.monitoring.profiling;
+
+import com.example.testbackend.config.ProfilingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Endpoint /actuator/profiling: requisições perfiladas lentas e o modo de perfilamento sempre ligado
+ */
+@Component
+@Endpoint(id = "profiling")
+@RequiredArgsConstructor
+public class ProfilingEndpoint {
+
+    private final ProfilingProperties properties;
+    private final ProfilingRegistry profilingRegistry;
+
+    @ReadOperation
+    public Map<String, Object> profiling() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("alwaysOn", profilingRegistry.isAlwaysOn());
+        response.put("header", properties.getHeader());
+        response.put("slowThresholdMs", properties.getSlowThresholdMs());
+        response.put("slowRequests", profilingRegistry.getSlowRequests());
+        return response;
+    }
+
+    /**
+     * Liga ou desliga o perfilamento de todas as requisições
+     */
+    @WriteOperation
+    public Map<String, Object> toggle(boolean alwaysOn) {
+        profilingRegistry.setAlwaysOn(alwaysOn);
+        return Map.of("alwaysOn", alwaysOn);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.testbackend.monitoring.profiling;
+
+import com.example.testbackend.config.ProfilingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Perfila as requisições com o cabeçalho {@code X-Profile: true} (ou todas, com o modo sempre ligado).
+ * A resposta é mantida em buffer para que o cabeçalho {@code Server-Timing}, com o tempo e as alocações de
+ * cada fase, possa ser adicionado depois da serialização.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@ConditionalOnProperty(prefix = "app.profiling", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ProfilingFilter extends OncePerRequestFilter {
+
+    private static final String SERVER_TIMING = "Server-Timing";
+
+    private final ProfilingProperties properties;
+    private final ProfilingRegistry profilingRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator")
+                || !(profilingRegistry.isAlwaysOn() || "true".equalsIgnoreCase(request.getHeader(properties.getHeader())));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        RequestProfile profile = RequestProfile.begin();
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            profile.finish();
+            RequestProfile.end();
+
+            RequestProfileSnapshot snapshot = toSnapshot(request, wrapper.getStatus(), profile);
+            wrapper.addHeader(SERVER_TIMING, serverTiming(snapshot));
+            wrapper.copyBodyToResponse();
+            profilingRegistry.record(snapshot);
+        }
+    }
+
+    private RequestProfileSnapshot toSnapshot(HttpServletRequest request, int status, RequestProfile profile) {
+        List<RequestProfileSnapshot.PhaseSnapshot> phases = profile.getPhases().entrySet().stream()
+                .map(ProfilingFilter::toPhase)
+                .toList();
+        return RequestProfileSnapshot.builder()
+                .timestamp(LocalDateTime.now())
+                .method(request.getMethod())
+                .path(request.getRequestURI())
+                .status(status)
+                .totalMs(profile.elapsedNanos() / 1e6)
+                .allocatedBytes(profile.allocatedBytesSinceStart())
+                .phases(phases)
+                .build();
+    }
+
+    private static RequestProfileSnapshot.PhaseSnapshot toPhase(Map.Entry<String, RequestProfile.PhaseTiming> entry) {
+        return RequestProfileSnapshot.PhaseSnapshot.builder()
+                .name(entry.getKey())
+                .count(entry.getValue().getCount())
+                .durationMs(entry.getValue().getNanos() / 1e6)
+                .allocatedBytes(entry.getValue().getAllocatedBytes())
+                .build();
+    }
+
+    /**
+     * Formato: {@code fase;dur=1.234;desc="alloc=2048B", ..., total;dur=5.678;desc="alloc=4096B"}
+     */
+    private static String serverTiming(RequestProfileSnapshot snapshot) {
+        StringBuilder header = new StringBuilder();
+        for (RequestProfileSnapshot.PhaseSnapshot phase : snapshot.getPhases()) {
+            appendMetric(header, phase.getName(), phase.getDurationMs(), phase.getAllocatedBytes());
+        }
+        appendMetric(header, "total", snapshot.getTotalMs(), snapshot.getAllocatedBytes());
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, double durationMs, long allocatedBytes) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.3f", durationMs));
+        if (allocatedBytes >= 0) {
+            header.append(";desc=\"alloc=").append(allocatedBytes).append("B\"");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.testbackend.monitoring.profiling;
+
+import com.example.testbackend.config.ProfilingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Guarda as requisições perfiladas mais lentas que {@code app.profiling.slow-threshold-ms}
+ */
+@Component
+@RequiredArgsConstructor
+public class ProfilingRegistry {
+
+    private final ProfilingProperties properties;
+    private final Deque<RequestProfileSnapshot> slowRequests = new ArrayDeque<>();
+    private volatile Boolean alwaysOn;
+
+    public void record(RequestProfileSnapshot snapshot) {
+        if (snapshot.getTotalMs() < properties.getSlowThresholdMs()) {
+            return;
+        }
+        synchronized (slowRequests) {
+            slowRequests.addFirst(snapshot);
+            while (slowRequests.size() > properties.getRecentRequests()) {
+                slowRequests.removeLast();
+            }
+        }
+    }
+
+    public List<RequestProfileSnapshot> getSlowRequests() {
+        synchronized (slowRequests) {
+            return new ArrayList<>(slowRequests);
+        }
+    }
+
+    public boolean isAlwaysOn() {
+        Boolean current = alwaysOn;
+        return current != null ? current : properties.isAlwaysOn();
+    }
+
+    public void setAlwaysOn(boolean alwaysOn) {
+        this.alwaysOn = alwaysOn;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.testbackend.monitoring.profiling;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Perfil da requisição em andamento na thread atual: tempo (ns) e bytes alocados por fase, acumulados pelo nome
+ * da fase. Fora de uma requisição perfilada, {@link #phase(String)} devolve uma instância compartilhada que não faz
+ * nada, então as marcações no código de serviço não custam nada no caminho normal. As alocações são as da thread
+ * da requisição; trabalho feito em outros executores não entra na conta.
+ */
+public class RequestProfile {
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+    private static final Phase NO_OP = () -> {
+    };
+
+    private final Map<String, PhaseTiming> phases = new LinkedHashMap<>();
+    private final long startNanos = System.nanoTime();
+    private final long startAllocatedBytes = allocatedBytes();
+    private long serializationStartNanos = -1;
+    private long serializationStartAllocatedBytes;
+
+    public static RequestProfile begin() {
+        RequestProfile profile = new RequestProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Abre uma fase; deve ser fechada com try-with-resources
+     */
+    public static Phase phase(String name) {
+        RequestProfile profile = CURRENT.get();
+        if (profile == null) {
+            return NO_OP;
+        }
+        long start = System.nanoTime();
+        long allocatedAtStart = allocatedBytes();
+        return () -> profile.record(name, System.nanoTime() - start, allocatedBytes() - allocatedAtStart);
+    }
+
+    /**
+     * Marca o início da serialização da resposta; a fase é fechada pelo filtro ao final da requisição
+     */
+    public static void markSerializationStart() {
+        RequestProfile profile = CURRENT.get();
+        if (profile != null && profile.serializationStartNanos < 0) {
+            profile.serializationStartNanos = System.nanoTime();
+            profile.serializationStartAllocatedBytes = allocatedBytes();
+        }
+    }
+
+    void finish() {
+        if (serializationStartNanos >= 0) {
+            record("serialization", System.nanoTime() - serializationStartNanos,
+                    allocatedBytes() - serializationStartAllocatedBytes);
+        }
+    }
+
+    public Map<String, PhaseTiming> getPhases() {
+        return phases;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Bytes alocados pela thread desde o início da requisição, ou -1 se a JVM não mede alocações por thread
+     */
+    public long allocatedBytesSinceStart() {
+        return startAllocatedBytes < 0 ? -1 : allocatedBytes() - startAllocatedBytes;
+    }
+
+    private void record(String name, long nanos, long allocated) {
+        phases.computeIfAbsent(name, ignored -> new PhaseTiming()).add(nanos, allocated);
+    }
+
+    private static long allocatedBytes() {
+        return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+
+    @FunctionalInterface
+    public interface Phase extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    /**
+     * Totais de uma fase, que pode ocorrer mais de uma vez na mesma requisição
+     */
+    public static class PhaseTiming {
+
+        private int count;
+        private long nanos;
+        private long allocatedBytes;
+
+        void add(long phaseNanos, long phaseAllocatedBytes) {
+            count++;
+            nanos += phaseNanos;
+            allocatedBytes += Math.max(0, phaseAllocatedBytes);
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+}
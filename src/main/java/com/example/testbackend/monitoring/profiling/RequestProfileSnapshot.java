@@ -0,0 +1,31 @@
+package com.example.testbackend.monitoring.profiling;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Perfil consolidado de uma requisição perfilada concluída
+ */
+@Value
+@Builder
+public class RequestProfileSnapshot {
+    LocalDateTime timestamp;
+    String method;
+    String path;
+    int status;
+    double totalMs;
+    long allocatedBytes;
+    List<PhaseSnapshot> phases;
+
+    @Value
+    @Builder
+    public static class PhaseSnapshot {
+        String name;
+        int count;
+        double durationMs;
+        long allocatedBytes;
+    }
+}
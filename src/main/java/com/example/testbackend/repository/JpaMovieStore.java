@@ -0,0 +1,77 @@
+package com.example.testbackend.repository;
+
+import com.example.testbackend.model.Movie;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Armazenamento via JPA. O modo (H2 em memória ou em arquivo) é definido pelo datasource configurado.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.storage", name = "backend", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaMovieStore implements MovieStore {
+
+    private final MovieRepository movieRepository;
+
+    @Override
+    public void saveAll(List<Movie> movies) {
+        movieRepository.saveAll(movies);
+    }
+
+    @Override
+    public List<Movie> findByImportUuid(String importUuid) {
+        return movieRepository.findByImportUuid(importUuid);
+    }
+
+    @Override
+    public List<Movie> findWinnersByImportUuid(String importUuid, int minYear, int maxYear) {
+        return movieRepository.findWinnersByImportUuid(importUuid, minYear, maxYear);
+    }
+
+    /**
+     * O cursor mantém a conexão aberta até o fim da leitura; a transação também atende chamadores sem transação
+     * própria, como a compactação em segundo plano
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachWinnerByYear(String importUuid, int minYear, int maxYear, Consumer<WinnerRow> consumer) {
+        try (Stream<WinnerRow> rows = movieRepository.streamWinnersOrderedByYear(importUuid, minYear, maxYear)) {
+            rows.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachMovie(String importUuid, Consumer<MovieRow> consumer) {
+        try (Stream<MovieRow> rows = movieRepository.streamByImportUuid(importUuid)) {
+            rows.forEach(consumer);
+        }
+    }
+
+    @Override
+    public boolean existsByImportUuid(String importUuid) {
+        return movieRepository.existsByImportUuid(importUuid);
+    }
+
+    @Override
+    public int deleteByImportUuid(String importUuid) {
+        return movieRepository.deleteByImportUuid(importUuid);
+    }
+
+    @Override
+    public List<String> findImportUuids() {
+        return movieRepository.findDistinctImportUuids();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return movieRepository.count() == 0;
+    }
+}
@@ -1,14 +1,64 @@
 package com.example.testbackend.repository;
 
 import com.example.testbackend.model.Movie;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface MovieRepository extends JpaRepository<Movie, Long> {
 
     List<Movie> findByImportUuid(String importUuid);
 
+    @Query("select m from Movie m where m.importUuid = :importUuid and m.winner = true and m.year between :minYear and :maxYear")
+    List<Movie> findWinnersByImportUuid(@Param("importUuid") String importUuid,
+                                        @Param("minYear") int minYear,
+                                        @Param("maxYear") int maxYear);
+
+    /**
+     * Cursor somente de avanço sobre a projeção dos vencedores, ordenada por ano. Precisa ser consumido dentro de
+     * uma transação e fechado ao final.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.example.testbackend.repository.WinnerRow(m.year, m.producers, m.studios) from Movie m"
+            + " where m.importUuid = :importUuid and m.winner = true and m.year between :minYear and :maxYear"
+            + " order by m.year")
+    Stream<WinnerRow> streamWinnersOrderedByYear(@Param("importUuid") String importUuid,
+                                                 @Param("minYear") int minYear,
+                                                 @Param("maxYear") int maxYear);
+
+    /**
+     * Todas as linhas de uma importação, para quem precisa percorrê-la inteira sem carregá-la (transferência
+     * entre nós). Como o cursor acima, precisa de uma transação.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.example.testbackend.repository.MovieRow(m.year, m.title, m.studios, m.producers, m.winner)"
+            + " from Movie m where m.importUuid = :importUuid")
+    Stream<MovieRow> streamByImportUuid(@Param("importUuid") String importUuid);
+
+    boolean existsByImportUuid(String importUuid);
+
+    @Query("select distinct m.importUuid from Movie m")
+    List<String> findDistinctImportUuids();
+
+    @Transactional
+    @Modifying
+    @Query("delete from Movie m where m.importUuid = :importUuid")
+    int deleteByImportUuid(@Param("importUuid") String importUuid);
+
 }
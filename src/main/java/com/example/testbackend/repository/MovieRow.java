@@ -0,0 +1,17 @@
+package com.example.testbackend.repository;
+
+import lombok.Value;
+
+/**
+ * Projeção com as colunas de um filme que fazem parte do CSV de importação. Não é uma entidade, então as linhas
+ * lidas por cursor não ficam presas ao contexto de persistência.
+ */
+@Value
+public class MovieRow {
+
+    int year;
+    String title;
+    String studios;
+    String producers;
+    boolean winner;
+}
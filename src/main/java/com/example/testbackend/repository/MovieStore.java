@@ -0,0 +1,44 @@
+package com.example.testbackend.repository;
+
+import com.example.testbackend.model.Movie;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Armazenamento dos filmes importados. A implementação é escolhida por {@code app.storage.backend}.
+ */
+public interface MovieStore {
+
+    void saveAll(List<Movie> movies);
+
+    List<Movie> findByImportUuid(String importUuid);
+
+    /**
+     * Apenas os vencedores da importação com ano entre {@code minYear} e {@code maxYear} (inclusive), filtrados
+     * no próprio armazenamento para que as demais linhas não sejam lidas nem convertidas em filmes
+     */
+    List<Movie> findWinnersByImportUuid(String importUuid, int minYear, int maxYear);
+
+    /**
+     * Entrega os vencedores da importação com ano entre {@code minYear} e {@code maxYear} (inclusive) em ordem
+     * crescente de ano, um por vez, sem reter as linhas já entregues
+     */
+    void forEachWinnerByYear(String importUuid, int minYear, int maxYear, Consumer<WinnerRow> consumer);
+
+    /**
+     * Entrega todos os filmes da importação, vencedores ou não, um por vez e sem reter as linhas já entregues
+     */
+    void forEachMovie(String importUuid, Consumer<MovieRow> consumer);
+
+    boolean existsByImportUuid(String importUuid);
+
+    int deleteByImportUuid(String importUuid);
+
+    /**
+     * UUIDs das importações presentes neste armazenamento
+     */
+    List<String> findImportUuids();
+
+    boolean isEmpty();
+}
@@ -0,0 +1,15 @@
+package com.example.testbackend.repository;
+
+import lombok.Value;
+
+/**
+ * Projeção de um filme vencedor com apenas as colunas usadas na análise de prêmios. Não é uma entidade, então
+ * as linhas lidas por cursor não ficam presas ao contexto de persistência.
+ */
+@Value
+public class WinnerRow {
+
+    int year;
+    String producers;
+    String studios;
+}
@@ -0,0 +1,465 @@
+package com.example.testbackend.repository.log;
+
+import com.example.testbackend.config.StorageProperties;
+import com.example.testbackend.model.Movie;
+import com.example.testbackend.repository.MovieRow;
+import com.example.testbackend.repository.MovieStore;
+import com.example.testbackend.repository.WinnerRow;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Armazenamento append-only em arquivo. Cada registro é gravado como [tamanho][crc][conteúdo] e o índice
+ * UUID de importação -> posições dos registros fica em memória. Na inicialização o log é relido para
+ * reconstruir o índice; um final de arquivo incompleto ou corrompido (queda durante a gravação) é truncado.
+ * Remoções gravam um registro de exclusão; o espaço não é recuperado. Os textos são gravados como UTF-8 com
+ * prefixo de tamanho int (-1 para nulo), sem o limite de 65.535 bytes de {@link DataOutputStream#writeUTF}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.storage", name = "backend", havingValue = "log")
+@Slf4j
+public class LogStructuredMovieStore implements MovieStore {
+
+    private static final String LOG_FILE = "movies.log";
+    // Os tipos 1 e 2 eram do formato anterior, com textos gravados por writeUTF
+    private static final byte MOVIE_RECORD = 3;
+    private static final byte DELETE_RECORD = 4;
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final int READ_AHEAD = 512;
+
+    private final FileChannel channel;
+    private final boolean fsync;
+    private final Map<String, OffsetList> offsetsByImport = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private long writePosition;
+
+    public LogStructuredMovieStore(StorageProperties storageProperties) throws IOException {
+        Path directory = Path.of(storageProperties.getLog().getDirectory());
+        Files.createDirectories(directory);
+        this.channel = FileChannel.open(directory.resolve(LOG_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.fsync = storageProperties.getLog().isFsync();
+        recover();
+    }
+
+    @Override
+    public synchronized void saveAll(List<Movie> movies) {
+        if (movies.isEmpty()) {
+            return;
+        }
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(movies.size() * 128);
+            long[] offsets = new long[movies.size()];
+            LocalDateTime now = LocalDateTime.now();
+
+            for (int i = 0; i < movies.size(); i++) {
+                Movie movie = movies.get(i);
+                movie.setId(nextId.getAndIncrement());
+                if (movie.getCreatedAt() == null) {
+                    movie.setCreatedAt(now);
+                }
+                offsets[i] = writePosition + buffer.size();
+                writeRecord(buffer, encodeMovie(movie));
+            }
+
+            append(buffer.toByteArray());
+
+            for (int i = 0; i < movies.size(); i++) {
+                offsetsByImport.computeIfAbsent(movies.get(i).getImportUuid(), ignored -> new OffsetList()).add(offsets[i]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao gravar filmes no log", e);
+        }
+    }
+
+    @Override
+    public List<Movie> findByImportUuid(String importUuid) {
+        OffsetList offsetList = offsetsByImport.get(importUuid);
+        if (offsetList == null) {
+            return List.of();
+        }
+
+        try {
+            long[] offsets = offsetList.toArray();
+            List<Movie> movies = new ArrayList<>(offsets.length);
+            for (long offset : offsets) {
+                movies.add(decodeMovie(readRecord(offset)));
+            }
+            return movies;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler filmes do log", e);
+        }
+    }
+
+    @Override
+    public List<Movie> findWinnersByImportUuid(String importUuid, int minYear, int maxYear) {
+        OffsetList offsetList = offsetsByImport.get(importUuid);
+        if (offsetList == null) {
+            return List.of();
+        }
+
+        try {
+            List<Movie> movies = new ArrayList<>();
+            for (long offset : offsetList.toArray()) {
+                byte[] payload = readRecord(offset);
+                if (isWinnerBetween(payload, minYear, maxYear)) {
+                    movies.add(decodeMovie(payload));
+                }
+            }
+            return movies;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler filmes do log", e);
+        }
+    }
+
+    /**
+     * O log não guarda os registros ordenados por ano: a primeira passada lê só ano e vencedor de cada registro e
+     * ordena pares (ano, índice) empacotados em long; a segunda decodifica as colunas de um vencedor por vez
+     */
+    @Override
+    public void forEachWinnerByYear(String importUuid, int minYear, int maxYear, Consumer<WinnerRow> consumer) {
+        OffsetList offsetList = offsetsByImport.get(importUuid);
+        if (offsetList == null) {
+            return;
+        }
+
+        try {
+            long[] offsets = offsetList.toArray();
+            long[] winnersByYear = new long[64];
+            int winnerCount = 0;
+            for (int i = 0; i < offsets.length; i++) {
+                byte[] payload = readRecord(offsets[i]);
+                if (!isWinnerBetween(payload, minYear, maxYear)) {
+                    continue;
+                }
+                if (winnerCount == winnersByYear.length) {
+                    winnersByYear = Arrays.copyOf(winnersByYear, winnerCount * 2);
+                }
+                winnersByYear[winnerCount++] = ((long) yearOf(payload) << 32) | i;
+            }
+            Arrays.sort(winnersByYear, 0, winnerCount);
+
+            for (int i = 0; i < winnerCount; i++) {
+                consumer.accept(decodeWinnerRow(readRecord(offsets[(int) winnersByYear[i]])));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler filmes do log", e);
+        }
+    }
+
+    @Override
+    public void forEachMovie(String importUuid, Consumer<MovieRow> consumer) {
+        OffsetList offsetList = offsetsByImport.get(importUuid);
+        if (offsetList == null) {
+            return;
+        }
+
+        try {
+            for (long offset : offsetList.toArray()) {
+                Movie movie = decodeMovie(readRecord(offset));
+                consumer.accept(new MovieRow(movie.getYear(), movie.getTitle(), movie.getStudios(), movie.getProducers(),
+                        Boolean.TRUE.equals(movie.getWinner())));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler filmes do log", e);
+        }
+    }
+
+    @Override
+    public boolean existsByImportUuid(String importUuid) {
+        return offsetsByImport.containsKey(importUuid);
+    }
+
+    @Override
+    public synchronized int deleteByImportUuid(String importUuid) {
+        OffsetList removed = offsetsByImport.remove(importUuid);
+        if (removed == null) {
+            return 0;
+        }
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            writeRecord(buffer, encodeDelete(importUuid));
+            append(buffer.toByteArray());
+            return removed.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao gravar exclusão no log", e);
+        }
+    }
+
+    @Override
+    public List<String> findImportUuids() {
+        return List.copyOf(offsetsByImport.keySet());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return offsetsByImport.isEmpty();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        channel.force(true);
+        channel.close();
+    }
+
+    /**
+     * Relê o log para reconstruir o índice, truncando um final incompleto ou corrompido
+     */
+    private void recover() throws IOException {
+        long size = channel.size();
+        long position = 0;
+        int records = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+        while (position + HEADER_SIZE <= size) {
+            header.clear();
+            readFully(header, position);
+            int length = header.getInt(0);
+            int crc = header.getInt(Integer.BYTES);
+            if (length <= 0 || position + HEADER_SIZE + length > size) {
+                break;
+            }
+
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(payload, position + HEADER_SIZE);
+            if (checksum(payload.array(), length) != crc) {
+                break;
+            }
+
+            applyRecord(payload.array(), position);
+            position += HEADER_SIZE + length;
+            records++;
+        }
+
+        if (position < size) {
+            log.warn("Log de filmes com {} bytes incompletos ou corrompidos no final; truncando na posição {}",
+                    size - position, position);
+            channel.truncate(position);
+        }
+        writePosition = position;
+        log.info("Log de filmes recuperado: {} registros, {} importações, {} bytes", records, offsetsByImport.size(), position);
+    }
+
+    private void applyRecord(byte[] payload, long offset) throws IOException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(payload));
+        byte type = input.readByte();
+        if (type == MOVIE_RECORD) {
+            long id = input.readLong();
+            input.readLong();
+            String importUuid = readString(input);
+            nextId.accumulateAndGet(id + 1, Math::max);
+            offsetsByImport.computeIfAbsent(importUuid, ignored -> new OffsetList()).add(offset);
+        } else if (type == DELETE_RECORD) {
+            offsetsByImport.remove(readString(input));
+        } else {
+            throw new IOException("Tipo de registro " + type + " desconhecido na posição " + offset
+                    + "; logs do formato anterior precisam ser removidos ou reimportados");
+        }
+    }
+
+    private void append(byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long position = writePosition;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+        writePosition = position;
+    }
+
+    private byte[] readRecord(long offset) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_AHEAD);
+        channel.read(buffer, offset);
+        int length = buffer.getInt(0);
+        if (HEADER_SIZE + length <= buffer.position()) {
+            return Arrays.copyOfRange(buffer.array(), HEADER_SIZE, HEADER_SIZE + length);
+        }
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(payload, offset + HEADER_SIZE);
+        return payload.array();
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        long current = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, current);
+            if (read < 0) {
+                throw new EOFException("Fim inesperado do log de filmes na posição " + current);
+            }
+            current += read;
+        }
+    }
+
+    private static void writeRecord(ByteArrayOutputStream buffer, byte[] payload) throws IOException {
+        DataOutputStream output = new DataOutputStream(buffer);
+        output.writeInt(payload.length);
+        output.writeInt(checksum(payload, payload.length));
+        output.write(payload);
+    }
+
+    private static byte[] encodeMovie(Movie movie) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.writeByte(MOVIE_RECORD);
+        output.writeLong(movie.getId());
+        output.writeLong(movie.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        writeString(output, movie.getImportUuid());
+        output.writeInt(movie.getYear());
+        writeString(output, movie.getTitle());
+        writeString(output, movie.getStudios());
+        writeString(output, movie.getProducers());
+        output.writeBoolean(Boolean.TRUE.equals(movie.getWinner()));
+        return bytes.toByteArray();
+    }
+
+    private static Movie decodeMovie(byte[] payload) throws IOException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(payload));
+        input.readByte();
+        long id = input.readLong();
+        long createdAt = input.readLong();
+        return Movie.builder()
+                .id(id)
+                .createdAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAt), ZoneId.systemDefault()))
+                .importUuid(readString(input))
+                .year(input.readInt())
+                .title(readString(input))
+                .studios(readString(input))
+                .producers(readString(input))
+                .winner(input.readBoolean())
+                .build();
+    }
+
+    private static WinnerRow decodeWinnerRow(byte[] payload) throws IOException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(payload));
+        input.skipBytes(1 + Long.BYTES * 2);
+        skipString(input);
+        int year = input.readInt();
+        skipString(input);
+        String studios = readString(input);
+        String producers = readString(input);
+        return new WinnerRow(year, producers, studios);
+    }
+
+    private static int yearOf(byte[] payload) {
+        ByteBuffer record = ByteBuffer.wrap(payload);
+        record.position(1 + Long.BYTES * 2);
+        skipString(record);
+        return record.getInt();
+    }
+
+    /**
+     * Confere ano e vencedor direto nos bytes do registro, pulando os textos sem decodificá-los
+     */
+    private static boolean isWinnerBetween(byte[] payload, int minYear, int maxYear) {
+        ByteBuffer record = ByteBuffer.wrap(payload);
+        record.position(1 + Long.BYTES * 2);
+        skipString(record);
+        int year = record.getInt();
+        if (year < minYear || year > maxYear) {
+            return false;
+        }
+        skipString(record);
+        skipString(record);
+        skipString(record);
+        return record.get() != 0;
+    }
+
+    private static void skipString(ByteBuffer record) {
+        int length = record.getInt();
+        if (length > 0) {
+            record.position(record.position() + length);
+        }
+    }
+
+    private static void skipString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length > 0) {
+            input.skipNBytes(length);
+        }
+    }
+
+    private static byte[] encodeDelete(String importUuid) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.writeByte(DELETE_RECORD);
+        writeString(output, importUuid);
+        return bytes.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return new String(input.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    private static int checksum(byte[] bytes, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, 0, length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Lista crescente de posições de registros de uma importação
+     */
+    private static final class OffsetList {
+
+        private long[] offsets = new long[64];
+        private int size;
+
+        synchronized void add(long offset) {
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            offsets[size++] = offset;
+        }
+
+        synchronized long[] toArray() {
+            return Arrays.copyOf(offsets, size);
+        }
+
+        synchronized int size() {
+            return size;
+        }
+    }
+}
@@ -1,32 +1,64 @@
 package com.example.testbackend.service;
 
+import com.example.testbackend.cluster.ShardRing;
+import com.example.testbackend.config.AwardsProperties;
+import com.example.testbackend.config.ImportProperties;
 import com.example.testbackend.dto.response.SummarizedAwardsResponse;
 import com.example.testbackend.dto.response.ImportResponse;
+import com.example.testbackend.dto.response.ImportStatusResponse;
+import com.example.testbackend.dto.response.ImportedFileResponse;
 import com.example.testbackend.dto.response.ProducerIntervalResponse;
+import com.example.testbackend.dto.response.ProducerWinsResponse;
 import com.example.testbackend.exception.ResourceNotFoundException;
 import com.example.testbackend.mapper.MovieAwardsMapper;
 import com.example.testbackend.model.Movie;
-import com.example.testbackend.repository.MovieRepository;
-import com.opencsv.CSVParserBuilder;
-import com.opencsv.CSVReader;
-import com.opencsv.CSVReaderBuilder;
-import com.opencsv.exceptions.CsvException;
+import com.example.testbackend.monitoring.RequestSqlStats;
+import com.example.testbackend.monitoring.profiling.RequestProfile;
+import com.example.testbackend.repository.MovieStore;
+import com.example.testbackend.service.awards.AwardDimension;
+import com.example.testbackend.service.awards.AwardEvaluation;
+import com.example.testbackend.service.awards.AwardIntervalEngine;
+import com.example.testbackend.service.awards.StreamingIntervalAggregator;
+import com.example.testbackend.service.compaction.CompactedImport;
+import com.example.testbackend.service.compaction.CompactionProgress;
+import com.example.testbackend.service.compaction.ImportCompactor;
+import com.example.testbackend.service.dictionary.ProducerDictionary;
+import com.example.testbackend.service.importer.ImportArchiveReader;
+import com.example.testbackend.service.importer.ImportErrorReport;
+import com.example.testbackend.service.importer.ImportFilter;
+import com.example.testbackend.service.importer.ImportMode;
+import com.example.testbackend.service.importer.MovieChunkWriter;
+import com.example.testbackend.service.importer.MovieChunkWriterFactory;
+import com.example.testbackend.service.importer.MovieCsvImporter;
+import com.example.testbackend.service.offheap.OffHeapImport;
+import com.example.testbackend.service.offheap.OffHeapImportBuilder;
+import com.example.testbackend.service.offheap.OffHeapImportRegistry;
+import com.example.testbackend.service.timeline.ProducerTimeline;
+import com.example.testbackend.service.timeline.ProducerTimelineBuilder;
+import com.example.testbackend.service.timeline.ProducerTimelineRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
+import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.TreeSet;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -34,138 +66,403 @@ import java.util.stream.IntStream;
 @Transactional
 public class MovieService {
 
-    private static final String YES_SENTENCE = "yes";
-    private static final String YEAR_SENTENCE = "year";
-    private static final String AT_LEAST_5_COLUMNS_MSG = "Registro deve ter pelo menos 5 colunas: year;title;studios;producers;winner";
-    private final MovieRepository movieRepository;
+    private static final ThreadLocal<SecureRandom> IMPORT_ID_RANDOM = ThreadLocal.withInitial(SecureRandom::new);
+
+    private final MovieStore movieStore;
     private final MovieAwardsMapper movieAwardsMapper;
+    private final MovieCsvImporter movieCsvImporter;
+    private final ImportArchiveReader importArchiveReader;
+    @Qualifier("importExecutor")
+    private final ExecutorService importExecutor;
+    private final MovieChunkWriterFactory movieChunkWriterFactory;
+    private final ImportProperties importProperties;
+    private final ProducerDictionary producerDictionary;
+    private final ProducerTimelineRegistry producerTimelineRegistry;
+    private final AwardIntervalEngine awardIntervalEngine;
+    private final OffHeapImportRegistry offHeapImportRegistry;
+    private final ShardRing shardRing;
+    private final ImportCompactor importCompactor;
+    private final AwardsProperties awardsProperties;
+    private final Set<String> importsInProgress = ConcurrentHashMap.newKeySet();
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ImportResponse importCsvFile(MultipartFile file) {
-        log.info("Iniciando importação de CSV para o arquivo: {}", file.getOriginalFilename());
+        return importCsvFile(file, ImportMode.STRICT);
+    }
 
+    /**
+     * Importa um único arquivo CSV. No modo STRICT, uma linha inválida desfaz a importação inteira;
+     * no modo LENIENT, linhas inválidas são ignoradas e reportadas na resposta.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ImportResponse importCsvFile(MultipartFile file, ImportMode mode) {
+        return importCsvFile(file, mode, ImportFilter.NONE);
+    }
+
+    /**
+     * Importa um único arquivo CSV gravando apenas as linhas aceitas pelo filtro
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ImportResponse importCsvFile(MultipartFile file, ImportMode mode, ImportFilter filter) {
+        log.info("Iniciando importação de CSV para o arquivo: {} (modo {})", file.getOriginalFilename(), mode);
         String importId = generateImportId();
+        return tracking(importId, () -> importSingleEntry(importId, file.getOriginalFilename(), file, mode, filter));
+    }
 
-        try (CSVReader csvReader = new CSVReaderBuilder(new InputStreamReader(file.getInputStream()))
-                .withCSVParser(new CSVParserBuilder().withSeparator(';').build())
-                .build()) {
+    /**
+     * Recebe de outro nó do cluster uma importação inteira, mantendo o UUID original. Quem chama garante que o
+     * UUID ainda não existe aqui; uma falha no meio da leitura remove o que já foi gravado.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ImportResponse importShard(String importId, InputStream csv) {
+        log.info("Recebendo importação {} transferida de outro nó", importId);
+        return tracking(importId, () -> importSingleEntry(importId, importId + ".csv", () -> csv, ImportMode.STRICT, ImportFilter.NONE));
+    }
 
-            List<String[]> records = csvReader.readAll();
+    /**
+     * Importação ainda sendo gravada neste nó: suas linhas já aparecem no armazenamento antes do fim
+     */
+    public boolean isImportInProgress(String importId) {
+        return importsInProgress.contains(importId);
+    }
 
-            // Remove header if exists
-            if (!records.isEmpty() && isHeaderRow(records.getFirst())) {
-                records.removeFirst();
-                log.debug("Cabeçalho detectado e removido");
-            }
+    /**
+     * Remove uma importação e seus índices deste nó; retorna a quantidade de filmes removidos
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int dropImport(String importId) {
+        importCompactor.evict(importId);
+        producerTimelineRegistry.evict(importId);
+        offHeapImportRegistry.evict(importId);
+        return movieStore.deleteByImportUuid(importId);
+    }
+
+    private ImportResponse tracking(String importId, Supplier<ImportResponse> importer) {
+        importsInProgress.add(importId);
+        try {
+            return importer.get();
+        } finally {
+            importsInProgress.remove(importId);
+        }
+    }
 
-            List<Movie> moviesToSave = records.stream()
-                    .map(record -> parseRecordToMovie(record, importId))
-                    .toList();
+    private ImportResponse importSingleEntry(String importId, String entryName, InputStreamSource source, ImportMode mode,
+                                             ImportFilter filter) {
+        ImportErrorReport errorReport = new ImportErrorReport(importProperties.getMaxReportedErrors());
+        ProducerTimelineBuilder timelineBuilder = producerTimelineRegistry.newBuilder();
+        OffHeapImportBuilder offHeapBuilder = offHeapImportRegistry.isEnabled() ? offHeapImportRegistry.newBuilder() : null;
+        MovieChunkWriter chunkWriter = recordingReadModels(movieChunkWriterFactory.open(), timelineBuilder, offHeapBuilder);
 
-            if (!moviesToSave.isEmpty()) {
-                movieRepository.saveAll(moviesToSave);
-                log.info("Salvos com sucesso {} filmes com ID de importação: {}", moviesToSave.size(), importId);
-            }
+        try (InputStream inputStream = source.getInputStream()) {
+            ImportedFileResponse importedFile = movieCsvImporter.importEntry(
+                    entryName, inputStream, importId, mode, filter, errorReport, chunkWriter);
+            chunkWriter.finish();
+            registerReadModels(importId, timelineBuilder, offHeapBuilder);
+            return buildImportResponse(importId, List.of(importedFile), errorReport);
 
-        } catch (IOException | CsvException e) {
+        } catch (IOException e) {
+            chunkWriter.abort();
+            rollbackImport(importId, e);
             log.error("Erro ao ler arquivo CSV: {}", e.getMessage(), e);
             throw new RuntimeException("Erro ao processar arquivo CSV: " + e.getMessage());
+
+        } catch (RuntimeException e) {
+            chunkWriter.abort();
+            rollbackImport(importId, e);
+            throw e;
         }
+    }
 
-        return ImportResponse.builder()
-                .uuidImported(importId)
-                .build();
+    /**
+     * Importa vários arquivos (CSV, .csv.gz ou .zip) em paralelo sob um único UUID de importação.
+     * Se qualquer arquivo falhar, os filmes já gravados para o UUID são removidos.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ImportResponse importCsvFiles(List<MultipartFile> files, ImportMode mode) {
+        return importCsvFiles(files, mode, ImportFilter.NONE);
     }
 
-    private boolean isHeaderRow(String[] record) {
-        return record.length > 0 && YEAR_SENTENCE.equalsIgnoreCase(record[0].trim());
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ImportResponse importCsvFiles(List<MultipartFile> files, ImportMode mode, ImportFilter filter) {
+        String importId = generateImportId();
+        return tracking(importId, () -> importFiles(importId, files, mode, filter));
     }
 
-    private Movie parseRecordToMovie(String[] record, String importId) {
-        if (record.length < 5) {
-            throw new IllegalArgumentException(AT_LEAST_5_COLUMNS_MSG);
+    private ImportResponse importFiles(String importId, List<MultipartFile> files, ImportMode mode, ImportFilter filter) {
+        log.info("Iniciando importação em lote de {} arquivos com ID de importação: {} (modo {})", files.size(), importId, mode);
+
+        ImportErrorReport errorReport = new ImportErrorReport(importProperties.getMaxReportedErrors());
+        ProducerTimelineBuilder timelineBuilder = producerTimelineRegistry.newBuilder();
+        OffHeapImportBuilder offHeapBuilder = offHeapImportRegistry.isEnabled() ? offHeapImportRegistry.newBuilder() : null;
+        MovieChunkWriter chunkWriter = recordingReadModels(movieChunkWriterFactory.open(), timelineBuilder, offHeapBuilder);
+        List<Future<List<ImportedFileResponse>>> futures = files.stream()
+                .map(file -> importExecutor.submit(RequestSqlStats.propagate(
+                        () -> importArchive(file, importId, mode, filter, errorReport, chunkWriter))))
+                .toList();
+
+        List<ImportedFileResponse> importedFiles = new ArrayList<>();
+        Throwable failure = null;
+        for (Future<List<ImportedFileResponse>> future : futures) {
+            try {
+                importedFiles.addAll(future.get());
+            } catch (ExecutionException e) {
+                failure = failure == null ? e.getCause() : failure;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = failure == null ? e : failure;
+            }
         }
 
-        try {
-            Integer year = Integer.parseInt(record[0].trim());
-            String title = record[1].trim();
-            String studios = record[2].trim();
-            String producers = record[3].trim();
-            Boolean winner = YES_SENTENCE.equalsIgnoreCase(record[4].trim());
+        if (failure == null) {
+            try {
+                chunkWriter.finish();
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        } else {
+            chunkWriter.abort();
+        }
+
+        if (failure != null) {
+            rollbackImport(importId, failure);
+            if (failure instanceof IllegalArgumentException illegalArgumentException) {
+                throw illegalArgumentException;
+            }
+            throw new RuntimeException("Erro ao processar arquivo CSV: " + failure.getMessage());
+        }
 
-            return Movie.builder()
-                    .year(year)
-                    .title(title)
-                    .studios(studios.isEmpty() ? null : studios)
-                    .producers(producers.isEmpty() ? null : producers)
-                    .winner(winner)
-                    .importUuid(importId)
-                    .build();
+        registerReadModels(importId, timelineBuilder, offHeapBuilder);
+        return buildImportResponse(importId, importedFiles, errorReport);
+    }
+
+    private List<ImportedFileResponse> importArchive(MultipartFile file, String importId, ImportMode mode,
+                                                     ImportFilter filter, ImportErrorReport errorReport,
+                                                     MovieChunkWriter chunkWriter)
+            throws IOException {
+        List<ImportedFileResponse> importedFiles = new ArrayList<>();
+        importArchiveReader.readEntries(file, (entryName, inputStream) -> importedFiles.add(
+                movieCsvImporter.importEntry(entryName, inputStream, importId, mode, filter, errorReport, chunkWriter)));
+        return importedFiles;
+    }
+
+    /**
+     * Alimenta o índice de produtores e, se habilitada, a cópia fora do heap da importação com cada bloco
+     * antes de entregá-lo para gravação
+     */
+    private MovieChunkWriter recordingReadModels(MovieChunkWriter delegate, ProducerTimelineBuilder timelineBuilder,
+                                                 OffHeapImportBuilder offHeapBuilder) {
+        return new MovieChunkWriter() {
+            @Override
+            public void write(List<Movie> chunk) {
+                timelineBuilder.addAll(chunk);
+                if (offHeapBuilder != null) {
+                    offHeapBuilder.addAll(chunk);
+                }
+                delegate.write(chunk);
+            }
+
+            @Override
+            public void finish() {
+                delegate.finish();
+            }
+
+            @Override
+            public void abort() {
+                delegate.abort();
+            }
+        };
+    }
 
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("Ano deve ser um número válido: " + record[0]);
+    private void registerReadModels(String importId, ProducerTimelineBuilder timelineBuilder,
+                                    OffHeapImportBuilder offHeapBuilder) {
+        producerTimelineRegistry.register(importId, timelineBuilder.build());
+        if (offHeapBuilder != null) {
+            offHeapImportRegistry.register(importId, offHeapBuilder.build());
         }
+        importCompactor.schedule(importId);
+    }
+
+    /**
+     * Remove os blocos já gravados de uma importação que falhou
+     */
+    private void rollbackImport(String importId, Throwable cause) {
+        int removed = dropImport(importId);
+        log.error("Importação {} cancelada, {} filmes removidos: {}", importId, removed, cause.getMessage());
+    }
+
+    private ImportResponse buildImportResponse(String importId, List<ImportedFileResponse> importedFiles,
+                                               ImportErrorReport errorReport) {
+        return ImportResponse.builder()
+                .uuidImported(importId)
+                .importedRows(importedFiles.stream().mapToInt(ImportedFileResponse::getRows).sum())
+                .skippedRows(importedFiles.stream().mapToInt(ImportedFileResponse::getSkippedRows).sum())
+                .filteredRows(importedFiles.stream().mapToInt(ImportedFileResponse::getFilteredRows).sum())
+                .files(importedFiles)
+                .errors(errorReport.hasErrors() ? errorReport.toResponse() : null)
+                .build();
     }
 
     public SummarizedAwardsResponse getSummarizedAwards(String importUuid) {
-        log.debug("Obtendo análise de prêmios para UUID de importação: {}", importUuid);
+        return getSummarizedAwards(importUuid, AwardDimension.PRODUCERS);
+    }
+
+    /**
+     * Análise dos intervalos entre prêmios consecutivos na dimensão informada (produtores ou estúdios)
+     */
+    public SummarizedAwardsResponse getSummarizedAwards(String importUuid, AwardDimension dimension) {
+        return getSummarizedAwards(importUuid, dimension, null, null);
+    }
+
+    /**
+     * Análise restrita às vitórias entre {@code minYear} e {@code maxYear} (inclusive; nulos deixam o intervalo
+     * aberto). Vencedor e ano são filtrados na consulta ao armazenamento, então só as vitórias do intervalo são
+     * lidas e convertidas em filmes.
+     * <p>
+     * Com {@code app.awards.evaluation=STREAMING} a leitura é sempre pelo cursor do armazenamento. No modo
+     * MATERIALIZED vale a primeira fonte disponível: segmento compactado, cópia fora do heap e, por fim, as
+     * vitórias carregadas do armazenamento.
+     */
+    public SummarizedAwardsResponse getSummarizedAwards(String importUuid, AwardDimension dimension,
+                                                        Integer minYear, Integer maxYear) {
+        log.debug("Obtendo análise de prêmios por {} para UUID de importação: {} (anos {} a {})",
+                dimension, importUuid, minYear, maxYear);
+        if (minYear != null && maxYear != null && minYear > maxYear) {
+            throw new IllegalArgumentException("Ano inicial não pode ser maior que o ano final");
+        }
+        int fromYear = minYear == null ? Integer.MIN_VALUE : minYear;
+        int toYear = maxYear == null ? Integer.MAX_VALUE : maxYear;
+
+        if (awardsProperties.getEvaluation() == AwardEvaluation.STREAMING) {
+            return summarizeStreaming(importUuid, dimension, fromYear, toYear);
+        }
 
-        List<Movie> movies = movieRepository.findByImportUuid(importUuid);
-        if (movies.isEmpty()) {
+        Optional<CompactedImport> compactedImport = importCompactor.find(importUuid);
+        if (compactedImport.isPresent()) {
+            return summarize(awardIntervalEngine.computeIntervals(compactedImport.get(), dimension, fromYear, toYear));
+        }
+
+        Optional<OffHeapImport> offHeapImport = offHeapImportRegistry.find(importUuid);
+        if (offHeapImport.isPresent()) {
+            return summarize(awardIntervalEngine.computeIntervals(offHeapImport.get(), dimension, fromYear, toYear));
+        }
+
+        List<Movie> winners;
+        try (RequestProfile.Phase ignored = RequestProfile.phase("fetch")) {
+            winners = movieStore.findWinnersByImportUuid(importUuid, fromYear, toYear);
+        }
+        // A consulta não distingue importação inexistente de importação sem vitórias no intervalo
+        if (winners.isEmpty() && !movieStore.existsByImportUuid(importUuid)) {
             throw new ResourceNotFoundException("Nenhum filme encontrado para o UUID de importação: " + importUuid);
         }
+        RequestSqlStats.recordUsedEntities(winners.size());
 
-        // Agrupando produtores e anos usando Streams: Key = produtor, Value = lista de anos
-        Map<String, List<Integer>> producerYears = movies.stream()
-                .filter(Movie::getWinner)
-                .filter(movie -> movie.getProducers() != null && !movie.getProducers().trim().isEmpty())
-                .flatMap(movie -> Arrays.stream(movie.getProducers().split("[,;]|\\sand\\s"))
-                        .map(String::trim)
-                        .filter(producer -> !producer.isEmpty())
-                        .map(producer -> Map.entry(producer, movie.getYear())))
-                .collect(Collectors.groupingBy(
-                        Map.Entry::getKey,
-                        Collectors.mapping(Map.Entry::getValue, Collectors.toList())
-                ));
+        return summarize(awardIntervalEngine.computeIntervals(winners, dimension));
+    }
 
-        if (producerYears.isEmpty()) {
-            return movieAwardsMapper.createEmptyResponse();
+    /**
+     * Lê as vitórias por um cursor ordenado por ano, sem retê-las: a memória usada cresce com a quantidade de
+     * nomes distintos, não com a quantidade de linhas da importação
+     */
+    private SummarizedAwardsResponse summarizeStreaming(String importUuid, AwardDimension dimension,
+                                                        int fromYear, int toYear) {
+        StreamingIntervalAggregator aggregator = awardIntervalEngine.streamingAggregator(dimension);
+        try (RequestProfile.Phase ignored = RequestProfile.phase("stream")) {
+            movieStore.forEachWinnerByYear(importUuid, fromYear, toYear, aggregator);
+        }
+        if (aggregator.rowCount() == 0 && !movieStore.existsByImportUuid(importUuid)) {
+            throw new ResourceNotFoundException("Nenhum filme encontrado para o UUID de importação: " + importUuid);
         }
+        log.debug("Análise por cursor da importação {}: {} vitórias, {} nomes distintos",
+                importUuid, aggregator.rowCount(), aggregator.distinctNames());
+
+        return movieAwardsMapper.buildSummarizedResponse(aggregator.minIntervals(), aggregator.maxIntervals());
+    }
 
-        List<ProducerIntervalResponse> allIntervals = calculateAllIntervals(producerYears);
+    private SummarizedAwardsResponse summarize(List<ProducerIntervalResponse> allIntervals) {
+        try (RequestProfile.Phase ignored = RequestProfile.phase("summarize")) {
+            if (allIntervals.isEmpty()) {
+                return movieAwardsMapper.createEmptyResponse();
+            }
 
-        if (allIntervals.isEmpty()) {
-            return movieAwardsMapper.createEmptyResponse();
+            return movieAwardsMapper.buildSummarizedResponse(allIntervals);
         }
+    }
 
-        return movieAwardsMapper.buildSummarizedResponse(allIntervals);
+    /**
+     * Situação da importação e andamento da compactação em segundo plano
+     */
+    public ImportStatusResponse getImportStatus(String importUuid) {
+        if (!movieStore.existsByImportUuid(importUuid)) {
+            throw new ResourceNotFoundException("Nenhum filme encontrado para o UUID de importação: " + importUuid);
+        }
+        CompactionProgress progress = importCompactor.progressOf(importUuid);
+        double percent = switch (progress.getState()) {
+            case COMPLETED -> 100.0;
+            case RUNNING -> progress.getTotalRows() == 0 ? 0.0 : 100.0 * progress.getProcessedRows() / progress.getTotalRows();
+            default -> 0.0;
+        };
+        return ImportStatusResponse.builder()
+                .uuidImported(importUuid)
+                .compaction(progress.getState())
+                .compactedRows(progress.getProcessedRows())
+                .totalRows(progress.getTotalRows())
+                .progressPercent(percent)
+                .segmentBytes(progress.getSegmentBytes())
+                .build();
     }
 
-    private List<ProducerIntervalResponse> calculateAllIntervals(Map<String, List<Integer>> producerYears) {
-        return producerYears.entrySet().stream()
-                .filter(entry -> entry.getValue().size() >= 2)
-                .flatMap(entry -> calculateIntervalsForProducer(entry.getKey(), entry.getValue()).stream())
-                .toList();
+    /**
+     * Vitórias de um produtor em uma importação, por busca binária no índice de produtores
+     */
+    public ProducerWinsResponse getProducerWins(String importUuid, String producerName) {
+        log.debug("Obtendo vitórias do produtor {} na importação {}", producerName, importUuid);
+
+        ProducerTimeline timeline = producerTimelineRegistry.get(importUuid);
+        int index = timeline.indexOf(producerDictionary.keyOf(producerName));
+        if (index < 0) {
+            throw new ResourceNotFoundException("Nenhuma vitória encontrada para o produtor: " + producerName);
+        }
+        return toProducerWins(timeline, index);
     }
 
-    private List<ProducerIntervalResponse> calculateIntervalsForProducer(String producer, List<Integer> years) {
-        List<Integer> sortedYears = new ArrayList<>(new TreeSet<>(years));
-
-        return IntStream.range(1, sortedYears.size())
-                .mapToObj(i -> {
-                    int previousWin = sortedYears.get(i - 1);
-                    int followingWin = sortedYears.get(i);
-                    int interval = followingWin - previousWin;
-                    return ProducerIntervalResponse.builder()
-                            .producer(producer)
-                            .interval(interval)
-                            .previousWin(previousWin)
-                            .followingWin(followingWin)
-                            .build();
-                })
-                .toList();
+    /**
+     * Produtores vencedores de uma importação cujo nome começa com o prefixo, em ordem alfabética
+     */
+    public List<ProducerWinsResponse> searchProducers(String importUuid, String prefix, int limit) {
+        log.debug("Buscando produtores com prefixo '{}' na importação {}", prefix, importUuid);
+
+        ProducerTimeline timeline = producerTimelineRegistry.get(importUuid);
+        String keyPrefix = producerDictionary.keyOf(prefix);
+        List<ProducerWinsResponse> producers = new ArrayList<>();
+        for (int index = timeline.firstIndexWithPrefix(keyPrefix);
+             producers.size() < limit && timeline.hasPrefix(index, keyPrefix); index++) {
+            producers.add(toProducerWins(timeline, index));
+        }
+        return producers;
+    }
+
+    private ProducerWinsResponse toProducerWins(ProducerTimeline timeline, int index) {
+        return ProducerWinsResponse.builder()
+                .producer(producerDictionary.nameOf(timeline.producerIdAt(index)))
+                .wins(timeline.winCountAt(index))
+                .years(Arrays.stream(timeline.yearsAt(index)).boxed().toList())
+                .build();
     }
 
+    /**
+     * UUID versão 4 gerado com um SecureRandom por thread: o UUID é a única credencial para ler a importação, então
+     * não pode ser previsível, e ao contrário de UUID.randomUUID() não disputa o SecureRandom compartilhado quando
+     * muitas importações começam ao mesmo tempo. Com o cluster habilitado,
+     * sorteia até obter um UUID cujo dono é este nó, para que a importação seja gravada onde foi recebida.
+     */
     private String generateImportId() {
-        return UUID.randomUUID().toString();
+        SecureRandom random = IMPORT_ID_RANDOM.get();
+        String importId;
+        do {
+            long mostSignificantBits = (random.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+            long leastSignificantBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+            importId = new UUID(mostSignificantBits, leastSignificantBits).toString();
+        } while (!shardRing.isOwnedLocally(importId));
+        return importId;
     }
 }
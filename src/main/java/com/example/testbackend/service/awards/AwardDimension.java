@@ -0,0 +1,51 @@
+package com.example.testbackend.service.awards;
+
+import com.example.testbackend.model.Movie;
+import com.example.testbackend.repository.WinnerRow;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Colunas multivaloradas sobre as quais os intervalos entre prêmios podem ser calculados
+ */
+public enum AwardDimension {
+
+    PRODUCERS(Movie::getProducers, WinnerRow::getProducers),
+    STUDIOS(Movie::getStudios, WinnerRow::getStudios);
+
+    private final Function<Movie, String> valuesAccessor;
+    private final Function<WinnerRow, String> rowValuesAccessor;
+
+    AwardDimension(Function<Movie, String> valuesAccessor, Function<WinnerRow, String> rowValuesAccessor) {
+        this.valuesAccessor = valuesAccessor;
+        this.rowValuesAccessor = rowValuesAccessor;
+    }
+
+    /**
+     * Lista canonicalizada de nomes do filme nesta dimensão (pode ser nula)
+     */
+    public String valuesOf(Movie movie) {
+        return valuesAccessor.apply(movie);
+    }
+
+    /**
+     * Mesma lista, lida da projeção usada na análise por cursor
+     */
+    public String valuesOf(WinnerRow row) {
+        return rowValuesAccessor.apply(row);
+    }
+
+    /**
+     * Converte o parâmetro da requisição ("producers", "studios"), sem distinção de maiúsculas
+     */
+    public static AwardDimension fromParameter(String parameter) {
+        return Arrays.stream(values())
+                .filter(dimension -> dimension.name().equalsIgnoreCase(parameter.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Dimensão inválida: " + parameter
+                        + ". Valores aceitos: " + Arrays.stream(values())
+                        .map(dimension -> dimension.name().toLowerCase(Locale.ROOT)).toList()));
+    }
+}
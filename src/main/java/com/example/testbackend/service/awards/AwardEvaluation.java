@@ -0,0 +1,20 @@
+package com.example.testbackend.service.awards;
+
+/**
+ * Define como a análise de prêmios lê as vitórias de uma importação
+ */
+public enum AwardEvaluation {
+
+    /**
+     * Usa o segmento compactado ou a cópia fora do heap, quando existem; sem eles, carrega todas as vitórias do
+     * intervalo em memória e calcula todos os intervalos antes de resumir
+     */
+    MATERIALIZED,
+
+    /**
+     * Percorre as vitórias em ordem de ano por um cursor, guardando só a última vitória de cada nome e os empates
+     * de menor e maior intervalo. Vale para todas as importações, mesmo as que têm segmento compactado ou cópia
+     * fora do heap
+     */
+    STREAMING
+}
@@ -0,0 +1,204 @@
+package com.example.testbackend.service.awards;
+
+import com.example.testbackend.dto.response.ProducerIntervalResponse;
+import com.example.testbackend.model.Movie;
+import com.example.testbackend.monitoring.profiling.RequestProfile;
+import com.example.testbackend.service.compaction.CompactedImport;
+import com.example.testbackend.service.dictionary.NameListDictionary;
+import com.example.testbackend.service.dictionary.ProducerDictionary;
+import com.example.testbackend.service.dictionary.StudioDictionary;
+import com.example.testbackend.service.offheap.OffHeapImport;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Calcula os intervalos entre prêmios consecutivos para qualquer dimensão multivalorada. Todas as dimensões
+ * pedidas são acumuladas na mesma passada sobre os filmes vencedores; cada acumulador guarda pares
+ * (id do nome, ano) empacotados em long, que depois são ordenados e percorridos uma única vez.
+ */
+@Component
+public class AwardIntervalEngine {
+
+    private final Map<AwardDimension, NameListDictionary> dictionaries = new EnumMap<>(AwardDimension.class);
+
+    public AwardIntervalEngine(ProducerDictionary producerDictionary, StudioDictionary studioDictionary) {
+        dictionaries.put(AwardDimension.PRODUCERS, producerDictionary);
+        dictionaries.put(AwardDimension.STUDIOS, studioDictionary);
+    }
+
+    /**
+     * Intervalos entre vitórias consecutivas de cada nome, para cada dimensão pedida
+     */
+    public Map<AwardDimension, List<ProducerIntervalResponse>> computeIntervals(List<Movie> winners,
+                                                                               Set<AwardDimension> dimensions) {
+        Map<AwardDimension, WinAccumulator> accumulators = new EnumMap<>(AwardDimension.class);
+        dimensions.forEach(dimension -> accumulators.put(dimension, new WinAccumulator()));
+
+        try (RequestProfile.Phase ignored = RequestProfile.phase("accumulate")) {
+            for (Movie movie : winners) {
+                for (Map.Entry<AwardDimension, WinAccumulator> entry : accumulators.entrySet()) {
+                    String values = entry.getKey().valuesOf(movie);
+                    if (values == null || values.isBlank()) {
+                        continue;
+                    }
+                    for (int id : dictionaries.get(entry.getKey()).idsOf(values)) {
+                        entry.getValue().add(id, movie.getYear());
+                    }
+                }
+            }
+        }
+
+        return intervalsOf(accumulators);
+    }
+
+    public List<ProducerIntervalResponse> computeIntervals(List<Movie> winners, AwardDimension dimension) {
+        return computeIntervals(winners, Set.of(dimension)).get(dimension);
+    }
+
+    /**
+     * Mesma análise lida direto das colunas fora do heap de uma importação, sem materializar filmes
+     */
+    public Map<AwardDimension, List<ProducerIntervalResponse>> computeIntervals(OffHeapImport offHeapImport,
+                                                                               Set<AwardDimension> dimensions) {
+        return computeIntervals(offHeapImport, dimensions, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Análise fora do heap restrita às vitórias entre {@code minYear} e {@code maxYear} (inclusive)
+     */
+    public Map<AwardDimension, List<ProducerIntervalResponse>> computeIntervals(OffHeapImport offHeapImport,
+                                                                               Set<AwardDimension> dimensions,
+                                                                               int minYear, int maxYear) {
+        Map<AwardDimension, WinAccumulator> accumulators = new EnumMap<>(AwardDimension.class);
+        dimensions.forEach(dimension -> accumulators.put(dimension, new WinAccumulator()));
+
+        try (RequestProfile.Phase ignored = RequestProfile.phase("accumulate")) {
+            for (int row = 0; row < offHeapImport.rowCount(); row++) {
+                if (!offHeapImport.isWinner(row)) {
+                    continue;
+                }
+                int year = offHeapImport.year(row);
+                if (year < minYear || year > maxYear) {
+                    continue;
+                }
+                for (Map.Entry<AwardDimension, WinAccumulator> entry : accumulators.entrySet()) {
+                    AwardDimension dimension = entry.getKey();
+                    int end = offHeapImport.idsStart(dimension, row + 1);
+                    for (int position = offHeapImport.idsStart(dimension, row); position < end; position++) {
+                        entry.getValue().add(offHeapImport.idAt(dimension, position), year);
+                    }
+                }
+            }
+        }
+
+        return intervalsOf(accumulators);
+    }
+
+    private Map<AwardDimension, List<ProducerIntervalResponse>> intervalsOf(Map<AwardDimension, WinAccumulator> accumulators) {
+        try (RequestProfile.Phase ignored = RequestProfile.phase("intervals")) {
+            Map<AwardDimension, List<ProducerIntervalResponse>> intervals = new EnumMap<>(AwardDimension.class);
+            accumulators.forEach((dimension, accumulator) -> intervals.put(dimension, accumulator.intervals(dimension)));
+            return intervals;
+        }
+    }
+
+    public List<ProducerIntervalResponse> computeIntervals(OffHeapImport offHeapImport, AwardDimension dimension) {
+        return computeIntervals(offHeapImport, Set.of(dimension)).get(dimension);
+    }
+
+    public List<ProducerIntervalResponse> computeIntervals(OffHeapImport offHeapImport, AwardDimension dimension,
+                                                           int minYear, int maxYear) {
+        return computeIntervals(offHeapImport, Set.of(dimension), minYear, maxYear).get(dimension);
+    }
+
+    /**
+     * Análise sobre o segmento compactado da importação: os anos de cada nome já estão ordenados, então os
+     * intervalos saem de uma única leitura sequencial, sem acumular nem ordenar
+     */
+    public List<ProducerIntervalResponse> computeIntervals(CompactedImport compactedImport, AwardDimension dimension,
+                                                           int minYear, int maxYear) {
+        List<ProducerIntervalResponse> intervals = new ArrayList<>();
+        try (RequestProfile.Phase ignored = RequestProfile.phase("scan")) {
+            CompactedImport.Cursor cursor = compactedImport.cursor(dimension);
+            while (cursor.next()) {
+                int previousWin = 0;
+                boolean hasPrevious = false;
+                for (int i = 0; i < cursor.yearCount(); i++) {
+                    int year = cursor.yearAt(i);
+                    if (year < minYear || year > maxYear) {
+                        continue;
+                    }
+                    if (hasPrevious) {
+                        intervals.add(toResponse(dimension, cursor.name(), previousWin, year));
+                    }
+                    previousWin = year;
+                    hasPrevious = true;
+                }
+            }
+        }
+        return intervals;
+    }
+
+    /**
+     * Acumulador de uma passada para vitórias lidas em ordem crescente de ano (por exemplo, de um cursor do
+     * banco), que mantém só o ano da última vitória de cada nome em vez de todas as vitórias
+     */
+    public StreamingIntervalAggregator streamingAggregator(AwardDimension dimension) {
+        return new StreamingIntervalAggregator(dimension, dictionaries.get(dimension));
+    }
+
+    public NameListDictionary dictionaryOf(AwardDimension dimension) {
+        return dictionaries.get(dimension);
+    }
+
+    private final class WinAccumulator {
+
+        private long[] entries = new long[256];
+        private int size;
+
+        void add(int id, int year) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = ((long) id << 32) | (year & 0xFFFFFFFFL);
+        }
+
+        /**
+         * Percorre os pares ordenados por (id, ano); anos repetidos do mesmo nome não geram intervalo
+         */
+        List<ProducerIntervalResponse> intervals(AwardDimension dimension) {
+            long[] sorted = Arrays.copyOf(entries, size);
+            Arrays.sort(sorted);
+
+            NameListDictionary dictionary = dictionaries.get(dimension);
+            List<ProducerIntervalResponse> intervals = new ArrayList<>();
+            for (int i = 1; i < sorted.length; i++) {
+                int id = (int) (sorted[i] >>> 32);
+                if (id != (int) (sorted[i - 1] >>> 32) || sorted[i] == sorted[i - 1]) {
+                    continue;
+                }
+                int previousWin = (int) sorted[i - 1];
+                int followingWin = (int) sorted[i];
+                intervals.add(toResponse(dimension, dictionary.nameOf(id), previousWin, followingWin));
+            }
+            return intervals;
+        }
+    }
+
+    static ProducerIntervalResponse toResponse(AwardDimension dimension, String name,
+                                                       int previousWin, int followingWin) {
+        return ProducerIntervalResponse.builder()
+                .producer(dimension == AwardDimension.PRODUCERS ? name : null)
+                .studio(dimension == AwardDimension.STUDIOS ? name : null)
+                .interval(followingWin - previousWin)
+                .previousWin(previousWin)
+                .followingWin(followingWin)
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.testbackend.service.awards;
+
+import java.util.Arrays;
+
+/**
+ * Mapa int -> int com endereçamento aberto e sondagem linear, sem objetos por entrada. As chaves são ids de
+ * dicionário (não negativos); {@link #MISSING} marca posição livre e é devolvido para chaves ausentes.
+ */
+final class IntIntHashMap {
+
+    static final int MISSING = Integer.MIN_VALUE;
+
+    private int[] keys;
+    private int[] values;
+    private int size;
+
+    IntIntHashMap() {
+        this(64);
+    }
+
+    IntIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize * 2 - 1, 16)) << 1;
+        keys = new int[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, MISSING);
+    }
+
+    /**
+     * Grava o valor da chave e devolve o anterior, ou {@link #MISSING} se a chave não existia
+     */
+    int put(int key, int value) {
+        int slot = slotOf(key);
+        if (keys[slot] == key) {
+            int previous = values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 2 > keys.length) {
+            resize();
+        }
+        return MISSING;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int slotOf(int key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != MISSING && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+        Arrays.fill(keys, MISSING);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != MISSING) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.testbackend.service.awards;
+
+import com.example.testbackend.dto.response.ProducerIntervalResponse;
+import com.example.testbackend.repository.WinnerRow;
+import com.example.testbackend.service.dictionary.NameListDictionary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Análise de prêmios em uma única passada sobre vitórias entregues em ordem crescente de ano. O estado por nome
+ * é só o ano da última vitória, num mapa de inteiros; os empates de menor e maior intervalo são mantidos durante
+ * a leitura. A memória cresce com a quantidade de nomes distintos, não com a quantidade de linhas.
+ */
+public final class StreamingIntervalAggregator implements Consumer<WinnerRow> {
+
+    private final AwardDimension dimension;
+    private final NameListDictionary dictionary;
+    private final IntIntHashMap lastWinById = new IntIntHashMap();
+    private final List<ProducerIntervalResponse> minIntervals = new ArrayList<>();
+    private final List<ProducerIntervalResponse> maxIntervals = new ArrayList<>();
+    private int minInterval = Integer.MAX_VALUE;
+    private int maxInterval = Integer.MIN_VALUE;
+    private int lastYear = Integer.MIN_VALUE;
+    private long rowCount;
+
+    StreamingIntervalAggregator(AwardDimension dimension, NameListDictionary dictionary) {
+        this.dimension = dimension;
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public void accept(WinnerRow row) {
+        int year = row.getYear();
+        if (year < lastYear) {
+            throw new IllegalStateException("Vitórias fora de ordem: " + year + " depois de " + lastYear);
+        }
+        lastYear = year;
+        rowCount++;
+
+        String values = dimension.valuesOf(row);
+        if (values == null || values.isBlank()) {
+            return;
+        }
+        for (int id : dictionary.idsOf(values)) {
+            int previousWin = lastWinById.put(id, year);
+            // Vitórias repetidas no mesmo ano não geram intervalo
+            if (previousWin != IntIntHashMap.MISSING && previousWin != year) {
+                record(id, previousWin, year);
+            }
+        }
+    }
+
+    private void record(int id, int previousWin, int followingWin) {
+        int interval = followingWin - previousWin;
+        if (interval > minInterval && interval < maxInterval) {
+            return;
+        }
+
+        ProducerIntervalResponse response = AwardIntervalEngine.toResponse(dimension, dictionary.nameOf(id),
+                previousWin, followingWin);
+        if (interval < minInterval) {
+            minInterval = interval;
+            minIntervals.clear();
+        }
+        if (interval == minInterval) {
+            minIntervals.add(response);
+        }
+        if (interval > maxInterval) {
+            maxInterval = interval;
+            maxIntervals.clear();
+        }
+        if (interval == maxInterval) {
+            maxIntervals.add(response);
+        }
+    }
+
+    public List<ProducerIntervalResponse> minIntervals() {
+        return minIntervals;
+    }
+
+    public List<ProducerIntervalResponse> maxIntervals() {
+        return maxIntervals;
+    }
+
+    /**
+     * Quantidade de vitórias lidas, com ou sem nomes na dimensão
+     */
+    public long rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Quantidade de nomes distintos com ao menos uma vitória lida
+     */
+    public int distinctNames() {
+        return lastWinById.size();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.testbackend.service.compaction;
+
+import com.example.testbackend.service.awards.AwardDimension;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Segmento compactado e imutável de uma importação, mapeado em memória. Para cada dimensão guarda apenas as
+ * vitórias, agrupadas por nome em ordem alfabética e com os anos em ordem crescente:
+ * <pre>
+ * [magic][versão][dimensões] e, por dimensão: [ordinal][bytes da seção][grupos] { [tamanho][nome UTF-8][anos][ano]... }
+ * </pre>
+ * A análise de prêmios vira uma leitura sequencial da seção, sem ordenação.
+ */
+public final class CompactedImport {
+
+    static final int MAGIC = 0x434D5057;
+    static final int VERSION = 1;
+
+    private final Path file;
+    private final ByteBuffer buffer;
+    private final Map<AwardDimension, Section> sections = new EnumMap<>(AwardDimension.class);
+
+    private CompactedImport(Path file, ByteBuffer buffer) {
+        this.file = file;
+        this.buffer = buffer;
+    }
+
+    static CompactedImport open(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("Segmento compactado inválido: " + file);
+        }
+
+        CompactedImport compacted = new CompactedImport(file, buffer);
+        int position = Integer.BYTES * 2;
+        int dimensionCount = buffer.getInt(position);
+        position += Integer.BYTES;
+        for (int i = 0; i < dimensionCount; i++) {
+            AwardDimension dimension = AwardDimension.values()[buffer.get(position)];
+            int length = buffer.getInt(position + 1);
+            int start = position + 1 + Integer.BYTES;
+            compacted.sections.put(dimension, new Section(start, start + length));
+            position = start + length;
+        }
+        return compacted;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    public long sizeInBytes() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Cursor somente para frente sobre os grupos de uma dimensão
+     */
+    public Cursor cursor(AwardDimension dimension) {
+        Section section = sections.get(dimension);
+        return section == null ? new Cursor(buffer.duplicate(), 0, 0) : new Cursor(buffer.duplicate(), section.start(), section.end());
+    }
+
+    private record Section(int start, int end) {
+    }
+
+    public static final class Cursor {
+
+        private final ByteBuffer buffer;
+        private final int end;
+        private int next;
+        private int nameStart;
+        private int nameLength;
+        private int yearsStart;
+        private int yearCount;
+        private String name;
+
+        private Cursor(ByteBuffer buffer, int start, int end) {
+            this.buffer = buffer;
+            this.next = start;
+            this.end = end;
+        }
+
+        /**
+         * Avança para o próximo nome; o nome só é decodificado se {@link #name()} for chamado
+         */
+        public boolean next() {
+            if (next >= end) {
+                return false;
+            }
+            nameLength = buffer.getInt(next);
+            nameStart = next + Integer.BYTES;
+            yearCount = buffer.getInt(nameStart + nameLength);
+            yearsStart = nameStart + nameLength + Integer.BYTES;
+            next = yearsStart + yearCount * Integer.BYTES;
+            name = null;
+            return true;
+        }
+
+        public String name() {
+            if (name == null) {
+                byte[] bytes = new byte[nameLength];
+                buffer.get(nameStart, bytes);
+                name = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return name;
+        }
+
+        public int yearCount() {
+            return yearCount;
+        }
+
+        public int yearAt(int index) {
+            return buffer.getInt(yearsStart + index * Integer.BYTES);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.testbackend.service.compaction;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Andamento da compactação: vitórias já processadas do total e tamanho do segmento gravado
+ */
+@Value
+@Builder
+public class CompactionProgress {
+    CompactionState state;
+    int processedRows;
+    int totalRows;
+    long segmentBytes;
+}
@@ -0,0 +1,29 @@
+package com.example.testbackend.service.compaction;
+
+/**
+ * Situação da compactação de uma importação
+ */
+public enum CompactionState {
+
+    /**
+     * Compactação desligada ({@code app.storage.compaction.enabled=false})
+     */
+    DISABLED,
+
+    /**
+     * Aguardando a vez na fila de compactação
+     */
+    PENDING,
+
+    RUNNING,
+
+    /**
+     * Segmento gravado; a análise de prêmios passa a ler dele
+     */
+    COMPLETED,
+
+    /**
+     * A compactação falhou; a análise continua lendo do armazenamento
+     */
+    FAILED
+}
@@ -0,0 +1,356 @@
+package com.example.testbackend.service.compaction;
+
+import com.example.testbackend.config.ClusterProperties;
+import com.example.testbackend.config.StorageProperties;
+import com.example.testbackend.repository.MovieStore;
+import com.example.testbackend.service.awards.AwardDimension;
+import com.example.testbackend.service.awards.AwardIntervalEngine;
+import com.example.testbackend.service.dictionary.NameListDictionary;
+import com.example.testbackend.service.offheap.OffHeapImportRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+
+/**
+ * Compactação em segundo plano das importações concluídas: as vitórias são regravadas em um segmento por
+ * importação, ordenado por (nome, ano), que passa a atender a análise de prêmios. Importações são gravadas uma
+ * única vez, então o segmento nunca precisa ser atualizado; ele é descartado junto com a importação.
+ * Os segmentos são dados derivados: cada instância grava num subdiretório próprio de
+ * {@code app.storage.compaction.directory}, travado enquanto ela vive e removido no encerramento, e as importações
+ * recuperadas pelo armazenamento são compactadas de novo. Várias instâncias podem compartilhar o diretório base;
+ * na inicialização só são removidos subdiretórios cuja trava não pertence a ninguém (instância encerrada sem
+ * limpar). Com o segmento pronto, a cópia fora do heap da importação deixa de ser lida e é descartada.
+ */
+@Component
+@Slf4j
+public class ImportCompactor {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String INSTANCE_PREFIX = "instance-";
+    private static final String LOCK_FILE = "instance.lock";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final FileChannel instanceLock;
+    private final MovieStore movieStore;
+    private final AwardIntervalEngine awardIntervalEngine;
+    private final OffHeapImportRegistry offHeapImportRegistry;
+    private final ExecutorService compactionExecutor;
+    private final ConcurrentHashMap<String, Task> tasks = new ConcurrentHashMap<>();
+
+    public ImportCompactor(StorageProperties storageProperties, ClusterProperties clusterProperties,
+                           MovieStore movieStore, AwardIntervalEngine awardIntervalEngine,
+                           OffHeapImportRegistry offHeapImportRegistry,
+                           @Qualifier("compactionExecutor") ExecutorService compactionExecutor) throws IOException {
+        this.enabled = storageProperties.getCompaction().isEnabled();
+        this.movieStore = movieStore;
+        this.awardIntervalEngine = awardIntervalEngine;
+        this.offHeapImportRegistry = offHeapImportRegistry;
+        this.compactionExecutor = compactionExecutor;
+        if (enabled) {
+            Path base = Path.of(storageProperties.getCompaction().getDirectory());
+            Files.createDirectories(base);
+            deleteAbandonedInstances(base);
+            this.directory = Files.createTempDirectory(base, INSTANCE_PREFIX + clusterProperties.getNodeId() + "-");
+            this.instanceLock = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            instanceLock.lock();
+        } else {
+            this.directory = null;
+            this.instanceLock = null;
+        }
+    }
+
+    /**
+     * Remove os segmentos desta instância; os de outras instâncias no mesmo diretório base não são tocados
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        tasks.clear();
+        deleteRecursively(directory);
+        instanceLock.close();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Agenda a compactação de uma importação concluída; importações já agendadas são ignoradas
+     */
+    public void schedule(String importUuid) {
+        if (!enabled) {
+            return;
+        }
+        Task task = new Task(importUuid);
+        if (tasks.putIfAbsent(importUuid, task) == null) {
+            compactionExecutor.execute(() -> compact(task));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void compactRecoveredImports() {
+        if (enabled) {
+            movieStore.findImportUuids().forEach(this::schedule);
+        }
+    }
+
+    /**
+     * Segmento da importação, se a compactação já terminou
+     */
+    public Optional<CompactedImport> find(String importUuid) {
+        Task task = tasks.get(importUuid);
+        return task == null ? Optional.empty() : Optional.ofNullable(task.compacted);
+    }
+
+    public CompactionProgress progressOf(String importUuid) {
+        if (!enabled) {
+            return CompactionProgress.builder().state(CompactionState.DISABLED).build();
+        }
+        Task task = tasks.get(importUuid);
+        if (task == null) {
+            return CompactionProgress.builder().state(CompactionState.PENDING).build();
+        }
+        CompactedImport compacted = task.compacted;
+        return CompactionProgress.builder()
+                .state(task.state)
+                .processedRows(task.processedRows)
+                .totalRows(task.totalRows)
+                .segmentBytes(compacted == null ? 0 : compacted.sizeInBytes())
+                .build();
+    }
+
+    /**
+     * Descarta o segmento (ou a compactação em andamento) de uma importação removida
+     */
+    public void evict(String importUuid) {
+        Task task = tasks.remove(importUuid);
+        if (task != null && task.compacted != null) {
+            deleteQuietly(task.compacted.file());
+        }
+    }
+
+    private void compact(Task task) {
+        if (tasks.get(task.importUuid) != task) {
+            return;
+        }
+        task.state = CompactionState.RUNNING;
+        long start = System.nanoTime();
+        try {
+            Map<AwardDimension, EntryBuffer> entries = readWinners(task);
+
+            Path temporary = directory.resolve(task.importUuid + SEGMENT_SUFFIX + ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+                output.writeInt(CompactedImport.MAGIC);
+                output.writeInt(CompactedImport.VERSION);
+                output.writeInt(AwardDimension.values().length);
+                for (AwardDimension dimension : AwardDimension.values()) {
+                    writeSection(channel, output, dimension, entries.get(dimension));
+                }
+                output.flush();
+            }
+            Path segment = directory.resolve(task.importUuid + SEGMENT_SUFFIX);
+            Files.move(temporary, segment, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            CompactedImport compacted = CompactedImport.open(segment);
+            if (tasks.get(task.importUuid) != task) {
+                // Importação removida durante a compactação
+                deleteQuietly(segment);
+                return;
+            }
+            task.compacted = compacted;
+            task.state = CompactionState.COMPLETED;
+            offHeapImportRegistry.evict(task.importUuid);
+            log.info("Importação {} compactada: {} vitórias, {} bytes em {} ms", task.importUuid, task.totalRows,
+                    compacted.sizeInBytes(), (System.nanoTime() - start) / 1_000_000);
+
+        } catch (IOException | RuntimeException e) {
+            task.state = CompactionState.FAILED;
+            log.error("Falha ao compactar a importação {}: {}", task.importUuid, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Uma passada pelo cursor de vitórias do armazenamento, guardando só pares (id do nome, ano) empacotados em
+     * long por dimensão; nenhum filme fica em memória
+     */
+    private Map<AwardDimension, EntryBuffer> readWinners(Task task) {
+        Map<AwardDimension, EntryBuffer> entries = new EnumMap<>(AwardDimension.class);
+        for (AwardDimension dimension : AwardDimension.values()) {
+            entries.put(dimension, new EntryBuffer());
+        }
+        int[] rows = new int[1];
+        movieStore.forEachWinnerByYear(task.importUuid, Integer.MIN_VALUE, Integer.MAX_VALUE, row -> {
+            for (AwardDimension dimension : AwardDimension.values()) {
+                String values = dimension.valuesOf(row);
+                if (values != null && !values.isBlank()) {
+                    for (int id : awardIntervalEngine.dictionaryOf(dimension).idsOf(values)) {
+                        entries.get(dimension).add(id, row.getYear());
+                    }
+                }
+            }
+            task.processedRows = ++rows[0];
+        });
+        // O total só é conhecido ao fim da leitura, que é a maior parte da compactação
+        task.totalRows = rows[0];
+        return entries;
+    }
+
+    /**
+     * Grava a seção de uma dimensão direto no arquivo: pares (id, ano) ordenados e agrupados por nome em ordem
+     * alfabética. O tamanho da seção é preenchido na posição reservada depois que os grupos são gravados.
+     */
+    private void writeSection(FileChannel channel, DataOutputStream output, AwardDimension dimension, EntryBuffer entries)
+            throws IOException {
+        NameListDictionary dictionary = awardIntervalEngine.dictionaryOf(dimension);
+        long[] sorted = entries.sorted();
+
+        List<Group> groups = new ArrayList<>();
+        for (int i = 0; i < sorted.length; ) {
+            int id = (int) (sorted[i] >>> 32);
+            int end = i;
+            while (end < sorted.length && (int) (sorted[end] >>> 32) == id) {
+                end++;
+            }
+            groups.add(new Group(dictionary.nameOf(id), sorted, i, end));
+            i = end;
+        }
+        groups.sort(Comparator.comparing(Group::name));
+
+        output.writeByte(dimension.ordinal());
+        int lengthPosition = output.size();
+        output.writeInt(0);
+        for (Group group : groups) {
+            group.writeTo(output);
+        }
+        output.flush();
+        int length = output.size() - lengthPosition - Integer.BYTES;
+        channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, length), lengthPosition);
+    }
+
+    /**
+     * Subdiretórios de instâncias encerradas sem limpar: a trava do subdiretório está livre. Uma trava mantida por
+     * outro processo (ou por outro contexto nesta JVM) indica uma instância viva, cujo subdiretório é mantido.
+     */
+    private static void deleteAbandonedInstances(Path base) throws IOException {
+        List<Path> instances;
+        try (Stream<Path> files = Files.list(base)) {
+            instances = files.filter(Files::isDirectory)
+                    .filter(file -> file.getFileName().toString().startsWith(INSTANCE_PREFIX))
+                    .toList();
+        }
+        for (Path instance : instances) {
+            try (FileChannel channel = FileChannel.open(instance.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                FileLock lock = channel.tryLock();
+                if (lock == null) {
+                    continue;
+                }
+                log.info("Removendo segmentos abandonados em {}", instance);
+                deleteRecursively(instance);
+            } catch (OverlappingFileLockException e) {
+                // Travado por outra instância nesta JVM
+            }
+        }
+    }
+
+    private static void deleteRecursively(Path root) throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            files.sorted(Comparator.reverseOrder()).forEach(ImportCompactor::deleteQuietly);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Não foi possível remover {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Vitórias de um nome: anos em ordem crescente, sem repetição
+     */
+    private record Group(String name, long[] entries, int start, int end) {
+
+        void writeTo(DataOutputStream output) throws IOException {
+            byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(nameBytes.length);
+            output.write(nameBytes);
+            int[] years = new int[end - start];
+            int count = 0;
+            for (int i = start; i < end; i++) {
+                int year = (int) entries[i];
+                if (count == 0 || years[count - 1] != year) {
+                    years[count++] = year;
+                }
+            }
+            output.writeInt(count);
+            for (int i = 0; i < count; i++) {
+                output.writeInt(years[i]);
+            }
+        }
+    }
+
+    private static final class EntryBuffer {
+
+        private long[] entries = new long[256];
+        private int size;
+
+        void add(int id, int year) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = ((long) id << 32) | (year & 0xFFFFFFFFL);
+        }
+
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(entries, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+
+    private static final class Task {
+
+        private final String importUuid;
+        private volatile CompactionState state = CompactionState.PENDING;
+        private volatile int processedRows;
+        private volatile int totalRows;
+        private volatile CompactedImport compacted;
+
+        private Task(String importUuid) {
+            this.importUuid = importUuid;
+        }
+    }
+}
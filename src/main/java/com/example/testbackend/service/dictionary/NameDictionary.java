@@ -0,0 +1,95 @@
+package com.example.testbackend.service.dictionary;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dicionário de nomes canônicos compartilhado entre importações. Cada nome distinto (após a normalização
+ * e a tabela de apelidos) recebe um id inteiro compacto e uma única instância de String.
+ */
+public class NameDictionary {
+
+    private final NameNormalizer normalizer;
+    private final Map<String, String> aliasesByKey = new HashMap<>();
+    private final ConcurrentHashMap<String, Integer> idsByKey = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private volatile String[] names = new String[256];
+    private volatile int size;
+
+    public NameDictionary(NameNormalizer normalizer, Map<String, String> aliases) {
+        this.normalizer = normalizer;
+        aliases.forEach((alias, canonical) ->
+                aliasesByKey.put(normalizer.key(normalizer.displayForm(alias)), normalizer.displayForm(canonical)));
+    }
+
+    /**
+     * Normaliza o nome e retorna o seu id, registrando-o se ainda não existir
+     */
+    public int intern(String rawName) {
+        String displayForm = normalizer.displayForm(rawName);
+        String key = normalizer.key(displayForm);
+        String alias = aliasesByKey.get(key);
+        if (alias != null) {
+            displayForm = alias;
+            key = normalizer.key(alias);
+        }
+
+        Integer id = idsByKey.get(key);
+        if (id != null) {
+            return id;
+        }
+        String canonicalName = displayForm;
+        return idsByKey.computeIfAbsent(key, ignored -> register(canonicalName));
+    }
+
+    /**
+     * Id de um nome que já está na forma canônica; evita a normalização quando o nome já é conhecido
+     */
+    public int idOf(String canonicalName) {
+        Integer id = idsByName.get(canonicalName);
+        return id != null ? id : intern(canonicalName);
+    }
+
+    /**
+     * Instância única do nome canônico correspondente ao nome informado
+     */
+    public String canonicalName(String rawName) {
+        return nameOf(intern(rawName));
+    }
+
+    /**
+     * Chave de comparação do nome informado (ou prefixo), usada para buscas sem distinção de caixa e acentos;
+     * um apelido resolve para a chave do nome canônico, como em {@link #intern(String)}
+     */
+    public String keyOf(String rawName) {
+        String key = normalizer.key(normalizer.displayForm(rawName));
+        String alias = aliasesByKey.get(key);
+        return alias != null ? normalizer.key(alias) : key;
+    }
+
+    public String nameOf(int id) {
+        return names[id];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int register(String canonicalName) {
+        synchronized (lock) {
+            int id = size;
+            String[] current = names;
+            if (id == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            current[id] = canonicalName;
+            names = current;
+            size = id + 1;
+            idsByName.put(canonicalName, id);
+            return id;
+        }
+    }
+}
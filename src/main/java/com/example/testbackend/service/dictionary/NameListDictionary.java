@@ -0,0 +1,49 @@
+package com.example.testbackend.service.dictionary;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Dicionário de colunas com vários nomes por filme (produtores, estúdios), separados por vírgula, ponto e
+ * vírgula ou " and ". A lista é canonicalizada uma única vez na importação e as análises agrupam pelo id inteiro.
+ */
+public class NameListDictionary extends NameDictionary {
+
+    private static final Pattern NAME_SEPARATOR = Pattern.compile("[,;]|\\sand\\s");
+    private static final String CANONICAL_SEPARATOR = ", ";
+
+    public NameListDictionary(NameNormalizer normalizer, Map<String, String> aliases) {
+        super(normalizer, aliases);
+    }
+
+    /**
+     * Canonicaliza a lista de nomes de um filme, no formato "Nome A, Nome B"
+     */
+    public String canonicalize(String rawNames) {
+        int[] ids = split(rawNames, true);
+        if (ids.length == 0) {
+            return null;
+        }
+        if (ids.length == 1) {
+            return nameOf(ids[0]);
+        }
+        return String.join(CANONICAL_SEPARATOR, Arrays.stream(ids).mapToObj(this::nameOf).toList());
+    }
+
+    /**
+     * Ids dos nomes de uma lista já canonicalizada na importação
+     */
+    public int[] idsOf(String names) {
+        return split(names, false);
+    }
+
+    private int[] split(String names, boolean normalize) {
+        return NAME_SEPARATOR.splitAsStream(names)
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .mapToInt(name -> normalize ? intern(name) : idOf(name))
+                .distinct()
+                .toArray();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.testbackend.service.dictionary;
+
+import com.example.testbackend.config.NameNormalizationProperties;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normaliza nomes em duas etapas: a forma de exibição (Unicode e espaços) e a chave de comparação
+ * (maiúsculas/minúsculas e acentos), usada para decidir se dois nomes são o mesmo.
+ */
+public class NameNormalizer {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final NameNormalizationProperties properties;
+
+    public NameNormalizer(NameNormalizationProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Forma de exibição do nome, preservando maiúsculas e acentos
+     */
+    public String displayForm(String rawName) {
+        String name = rawName;
+        if (properties.isUnicodeNfkc()) {
+            name = Normalizer.normalize(name, Normalizer.Form.NFKC);
+        }
+        if (properties.isCollapseWhitespace()) {
+            name = WHITESPACE.matcher(name).replaceAll(" ");
+        }
+        return name.trim();
+    }
+
+    /**
+     * Chave de comparação de uma forma de exibição
+     */
+    public String key(String displayForm) {
+        String key = displayForm;
+        if (properties.isStripAccents()) {
+            key = COMBINING_MARKS.matcher(Normalizer.normalize(key, Normalizer.Form.NFD)).replaceAll("");
+        }
+        if (properties.isCaseFold()) {
+            key = key.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+        }
+        return key;
+    }
+}
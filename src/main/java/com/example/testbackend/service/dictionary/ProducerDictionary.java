@@ -0,0 +1,16 @@
+package com.example.testbackend.service.dictionary;
+
+import com.example.testbackend.config.ProducerDictionaryProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dicionário de produtores. Os nomes são canonicalizados uma única vez na importação e
+ * a análise de prêmios agrupa os produtores pelo id inteiro.
+ */
+@Component
+public class ProducerDictionary extends NameListDictionary {
+
+    public ProducerDictionary(ProducerDictionaryProperties properties) {
+        super(new NameNormalizer(properties.getNormalization()), properties.getAliases());
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.testbackend.service.dictionary;
+
+import com.example.testbackend.config.StudioDictionaryProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dicionário de estúdios, com as mesmas regras de normalização e separação do dicionário de produtores
+ */
+@Component
+public class StudioDictionary extends NameListDictionary {
+
+    public StudioDictionary(StudioDictionaryProperties properties) {
+        super(new NameNormalizer(properties.getNormalization()), properties.getAliases());
+    }
+}
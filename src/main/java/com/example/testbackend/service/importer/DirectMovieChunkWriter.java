@@ -0,0 +1,29 @@
+package com.example.testbackend.service.importer;
+
+import com.example.testbackend.model.Movie;
+import com.example.testbackend.repository.MovieStore;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Grava cada bloco imediatamente, na thread que lê o arquivo
+ */
+@RequiredArgsConstructor
+public class DirectMovieChunkWriter implements MovieChunkWriter {
+
+    private final MovieStore movieStore;
+
+    @Override
+    public void write(List<Movie> chunk) {
+        movieStore.saveAll(chunk);
+    }
+
+    @Override
+    public void finish() {
+    }
+
+    @Override
+    public void abort() {
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.testbackend.service.importer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.input.CloseShieldInputStream;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Expõe as entradas CSV de um arquivo enviado (CSV puro, .csv.gz ou .zip).
+ * A descompressão é feita em fluxo, sem arquivos temporários e sem inflar o conteúdo inteiro em memória.
+ */
+@Component
+@Slf4j
+public class ImportArchiveReader {
+
+    private static final String CSV_EXTENSION = ".csv";
+    private static final String GZIP_EXTENSION = ".csv.gz";
+    private static final String ZIP_EXTENSION = ".zip";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @FunctionalInterface
+    public interface EntryHandler {
+        void handle(String entryName, InputStream inputStream) throws IOException;
+    }
+
+    /**
+     * Verifica se o nome do arquivo possui uma extensão suportada pela importação em lote
+     */
+    public boolean isSupported(String fileName) {
+        if (fileName == null) {
+            return false;
+        }
+        String lowerName = fileName.toLowerCase(Locale.ROOT);
+        return lowerName.endsWith(CSV_EXTENSION) || lowerName.endsWith(GZIP_EXTENSION) || lowerName.endsWith(ZIP_EXTENSION);
+    }
+
+    /**
+     * Percorre as entradas CSV do arquivo, entregando cada uma ao handler na ordem em que aparecem
+     */
+    public void readEntries(MultipartFile file, EntryHandler handler) throws IOException {
+        String fileName = file.getOriginalFilename();
+        try (InputStream inputStream = new BufferedInputStream(file.getInputStream(), BUFFER_SIZE)) {
+            readEntries(fileName, inputStream, handler);
+        }
+    }
+
+    private void readEntries(String fileName, InputStream inputStream, EntryHandler handler) throws IOException {
+        String lowerName = fileName.toLowerCase(Locale.ROOT);
+
+        if (lowerName.endsWith(ZIP_EXTENSION)) {
+            readZipEntries(fileName, inputStream, handler);
+        } else if (lowerName.endsWith(GZIP_EXTENSION)) {
+            handler.handle(fileName, new GZIPInputStream(CloseShieldInputStream.wrap(inputStream), BUFFER_SIZE));
+        } else if (lowerName.endsWith(CSV_EXTENSION)) {
+            handler.handle(fileName, CloseShieldInputStream.wrap(inputStream));
+        } else {
+            log.warn("Entrada ignorada por não ser CSV: {}", fileName);
+        }
+    }
+
+    private void readZipEntries(String fileName, InputStream inputStream, EntryHandler handler) throws IOException {
+        ZipInputStream zipInputStream = new ZipInputStream(CloseShieldInputStream.wrap(inputStream));
+        ZipEntry entry;
+        while ((entry = zipInputStream.getNextEntry()) != null) {
+            if (!entry.isDirectory() && !entry.getName().startsWith("__MACOSX/")) {
+                readEntries(fileName + "!/" + entry.getName(), zipInputStream, handler);
+            }
+            zipInputStream.closeEntry();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.testbackend.service.importer;
+
+import com.example.testbackend.dto.response.ImportErrorSummaryResponse;
+import com.example.testbackend.dto.response.ImportRowErrorResponse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Relatório limitado dos erros de linha de uma importação. Todos os erros são contados,
+ * mas apenas os primeiros {@code maxErrors} são guardados para a resposta.
+ */
+public class ImportErrorReport {
+
+    private final int maxErrors;
+    private final AtomicInteger totalErrors = new AtomicInteger();
+    private final Queue<ImportRowErrorResponse> errors = new ConcurrentLinkedQueue<>();
+
+    public ImportErrorReport(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    public void add(String fileName, long line, String column, String reason) {
+        if (totalErrors.incrementAndGet() <= maxErrors) {
+            errors.add(ImportRowErrorResponse.builder()
+                    .fileName(fileName)
+                    .line(line)
+                    .column(column)
+                    .reason(reason)
+                    .build());
+        }
+    }
+
+    public boolean hasErrors() {
+        return totalErrors.get() > 0;
+    }
+
+    public ImportErrorSummaryResponse toResponse() {
+        List<ImportRowErrorResponse> reportedErrors = new ArrayList<>(errors);
+        reportedErrors.sort(Comparator.comparing(ImportRowErrorResponse::getFileName)
+                .thenComparing(ImportRowErrorResponse::getLine));
+
+        return ImportErrorSummaryResponse.builder()
+                .totalErrors(totalErrors.get())
+                .truncated(totalErrors.get() > reportedErrors.size())
+                .errors(reportedErrors)
+                .build();
+    }
+}
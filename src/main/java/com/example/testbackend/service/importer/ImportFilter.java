@@ -0,0 +1,97 @@
+package com.example.testbackend.service.importer;
+
+/**
+ * Filtro opcional de linhas da importação (apenas vencedores e/ou intervalo de anos). É avaliado pelo tokenizador
+ * sobre o texto de cada coluna assim que ela é lida: uma linha recusada tem o restante descartado sem materializar
+ * Strings nem criar o filme. Anos inválidos passam pelo filtro para serem reportados como erro de linha.
+ */
+public final class ImportFilter implements ProjectingCsvTokenizer.FieldFilter {
+
+    public static final ImportFilter NONE = new ImportFilter(false, Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+    private static final String YES_SENTENCE = "yes";
+
+    private final boolean winnersOnly;
+    private final int minYear;
+    private final int maxYear;
+
+    private ImportFilter(boolean winnersOnly, int minYear, int maxYear) {
+        this.winnersOnly = winnersOnly;
+        this.minYear = minYear;
+        this.maxYear = maxYear;
+    }
+
+    /**
+     * Anos nulos deixam o intervalo aberto naquele lado
+     */
+    public static ImportFilter of(boolean winnersOnly, Integer minYear, Integer maxYear) {
+        if (minYear != null && maxYear != null && minYear > maxYear) {
+            throw new IllegalArgumentException("Ano inicial não pode ser maior que o ano final");
+        }
+        if (!winnersOnly && minYear == null && maxYear == null) {
+            return NONE;
+        }
+        return new ImportFilter(winnersOnly,
+                minYear == null ? Integer.MIN_VALUE : minYear,
+                maxYear == null ? Integer.MAX_VALUE : maxYear);
+    }
+
+    public boolean isActive() {
+        return this != NONE;
+    }
+
+    @Override
+    public boolean accept(int field, CharSequence value) {
+        if (field == MovieCsvSchema.YEAR) {
+            return acceptYear(value);
+        }
+        if (field == MovieCsvSchema.WINNER) {
+            return !winnersOnly || isYes(value);
+        }
+        return true;
+    }
+
+    /**
+     * Conferência do filme já montado, para colunas ausentes do arquivo (que o tokenizador não chega a avaliar)
+     */
+    boolean matches(int year, boolean winner) {
+        return (!winnersOnly || winner) && year >= minYear && year <= maxYear;
+    }
+
+    private boolean acceptYear(CharSequence value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        try {
+            int year = Integer.parseInt(value, start, end, 10);
+            return year >= minYear && year <= maxYear;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private static boolean isYes(CharSequence value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        if (end - start != YES_SENTENCE.length()) {
+            return false;
+        }
+        for (int i = 0; i < YES_SENTENCE.length(); i++) {
+            if (Character.toLowerCase(value.charAt(start + i)) != YES_SENTENCE.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.testbackend.service.importer;
+
+/**
+ * Define como a importação reage a linhas inválidas
+ */
+public enum ImportMode {
+
+    /**
+     * Qualquer linha inválida cancela a importação inteira
+     */
+    STRICT,
+
+    /**
+     * Linhas inválidas são ignoradas e registradas no relatório de erros; as demais são gravadas
+     */
+    LENIENT
+}
@@ -0,0 +1,17 @@
+package com.example.testbackend.service.importer;
+
+/**
+ * Define como os blocos de filmes lidos do CSV são gravados
+ */
+public enum ImportWriteMode {
+
+    /**
+     * Cada bloco é gravado pela própria thread que lê o arquivo
+     */
+    SEQUENTIAL,
+
+    /**
+     * A leitura entrega os blocos a uma fila limitada consumida por vários gravadores da importação
+     */
+    CONCURRENT
+}
@@ -0,0 +1,26 @@
+package com.example.testbackend.service.importer;
+
+import com.example.testbackend.model.Movie;
+
+import java.util.List;
+
+/**
+ * Destino dos blocos de filmes de uma importação. Cada bloco é gravado em uma transação curta própria.
+ */
+public interface MovieChunkWriter {
+
+    /**
+     * Entrega um bloco para gravação. O bloco não deve ser alterado depois de entregue.
+     */
+    void write(List<Movie> chunk);
+
+    /**
+     * Aguarda a gravação de todos os blocos entregues, propagando a primeira falha de gravação
+     */
+    void finish();
+
+    /**
+     * Interrompe a importação, aguardando os gravadores terminarem sem propagar falhas
+     */
+    void abort();
+}
@@ -0,0 +1,30 @@
+package com.example.testbackend.service.importer;
+
+import com.example.testbackend.config.ImportProperties;
+import com.example.testbackend.repository.MovieStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Cria o gravador de blocos de cada importação conforme {@code app.import.write-mode}
+ */
+@Component
+@RequiredArgsConstructor
+public class MovieChunkWriterFactory {
+
+    private final MovieStore movieStore;
+    private final ImportProperties importProperties;
+    @Qualifier("importWriterExecutor")
+    private final ExecutorService importWriterExecutor;
+
+    public MovieChunkWriter open() {
+        if (importProperties.getWriteMode() == ImportWriteMode.CONCURRENT) {
+            return new PipelinedMovieChunkWriter(movieStore, importWriterExecutor,
+                    importProperties.getWriters(), importProperties.getQueueCapacity());
+        }
+        return new DirectMovieChunkWriter(movieStore);
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.testbackend.service.importer;
+
+import com.example.testbackend.config.ImportProperties;
+import com.example.testbackend.dto.response.ImportedFileResponse;
+import com.example.testbackend.model.Movie;
+import com.example.testbackend.service.dictionary.ProducerDictionary;
+import com.example.testbackend.service.dictionary.StudioDictionary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converte uma entrada CSV em filmes e os entrega em blocos ao {@link MovieChunkWriter} da importação,
+ * sob o UUID de importação informado.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MovieCsvImporter {
+
+    private static final String YES_SENTENCE = "yes";
+    private static final char SEPARATOR = ';';
+    private final ImportProperties importProperties;
+    private final ProducerDictionary producerDictionary;
+    private final StudioDictionary studioDictionary;
+
+    /**
+     * Importa uma entrada CSV e retorna a quantidade de filmes salvos e de linhas ignoradas.
+     * As colunas são localizadas pelo cabeçalho, quando existir; colunas extras são ignoradas.
+     * No modo STRICT a primeira linha inválida interrompe a importação com {@link IllegalArgumentException}.
+     */
+    public ImportedFileResponse importEntry(String entryName, InputStream inputStream, String importId,
+                                            ImportMode mode, ImportErrorReport errorReport,
+                                            MovieChunkWriter chunkWriter) throws IOException {
+        return importEntry(entryName, inputStream, importId, mode, ImportFilter.NONE, errorReport, chunkWriter);
+    }
+
+    /**
+     * Como {@link #importEntry(String, InputStream, String, ImportMode, ImportErrorReport, MovieChunkWriter)},
+     * descartando as linhas recusadas pelo filtro; elas não contam como erro e são somadas em filteredRows.
+     */
+    public ImportedFileResponse importEntry(String entryName, InputStream inputStream, String importId,
+                                            ImportMode mode, ImportFilter filter, ImportErrorReport errorReport,
+                                            MovieChunkWriter chunkWriter) throws IOException {
+        ProjectingCsvTokenizer tokenizer = new ProjectingCsvTokenizer(
+                new InputStreamReader(inputStream, StandardCharsets.UTF_8), SEPARATOR);
+
+        int chunkSize = Math.max(1, importProperties.getChunkSize());
+        List<Movie> chunk = new ArrayList<>(chunkSize);
+        int importedRows = 0;
+        int skippedRows = 0;
+        int filteredRows = 0;
+        ProjectingCsvTokenizer.FieldFilter fieldFilter = filter.isActive() ? filter : null;
+
+        List<String> firstRecord = tokenizer.nextRawRecord();
+        if (firstRecord == null) {
+            return ImportedFileResponse.builder().fileName(entryName).rows(0).skippedRows(0).filteredRows(0).build();
+        }
+
+        MovieCsvSchema schema = MovieCsvSchema.POSITIONAL;
+        String[] fields = new String[MovieCsvSchema.FIELD_COUNT];
+        int columns;
+        if (MovieCsvSchema.isHeader(firstRecord)) {
+            try {
+                schema = MovieCsvSchema.fromHeader(firstRecord);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(entryName + ": " + e.getMessage(), e);
+            }
+            log.debug("Cabeçalho detectado em {}: {} colunas", entryName, firstRecord.size());
+            columns = tokenizer.nextRecord(schema.fieldByColumn(), fields, fieldFilter);
+        } else {
+            fields = schema.project(firstRecord);
+            columns = firstRecord.size();
+        }
+
+        while (columns != -1) {
+            try {
+                if (columns == ProjectingCsvTokenizer.FILTERED) {
+                    filteredRows++;
+                } else {
+                    Movie movie = parseRecordToMovie(fields, columns, schema, importId);
+                    if (filter.matches(movie.getYear(), movie.getWinner())) {
+                        chunk.add(movie);
+                    } else {
+                        filteredRows++;
+                    }
+                }
+            } catch (RowParseException e) {
+                if (mode == ImportMode.STRICT) {
+                    throw new IllegalArgumentException("Linha " + tokenizer.getLinesRead() + ": " + e.getMessage(), e);
+                }
+                errorReport.add(entryName, tokenizer.getLinesRead(), e.getColumn(), e.getMessage());
+                skippedRows++;
+            }
+
+            if (chunk.size() >= chunkSize) {
+                importedRows += chunk.size();
+                chunkWriter.write(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+            columns = tokenizer.nextRecord(schema.fieldByColumn(), fields, fieldFilter);
+        }
+        if (!chunk.isEmpty()) {
+            importedRows += chunk.size();
+            chunkWriter.write(chunk);
+        }
+
+        log.info("Lidos com sucesso {} filmes de {} com ID de importação: {} ({} linhas ignoradas, {} filtradas)",
+                importedRows, entryName, importId, skippedRows, filteredRows);
+
+        return ImportedFileResponse.builder()
+                .fileName(entryName)
+                .rows(importedRows)
+                .skippedRows(skippedRows)
+                .filteredRows(filteredRows)
+                .build();
+    }
+
+    private Movie parseRecordToMovie(String[] fields, int columns, MovieCsvSchema schema, String importId) {
+        if (columns < schema.minimumColumns()) {
+            throw new RowParseException(null, schema.missingColumnsMessage());
+        }
+
+        String rawYear = fields[MovieCsvSchema.YEAR];
+        try {
+            Integer year = Integer.parseInt(rawYear.trim());
+            String title = fields[MovieCsvSchema.TITLE].trim();
+            if (title.isEmpty()) {
+                throw new RowParseException(MovieCsvSchema.fieldName(MovieCsvSchema.TITLE), "Título é obrigatório");
+            }
+            String studios = trimmed(fields[MovieCsvSchema.STUDIOS]);
+            String producers = trimmed(fields[MovieCsvSchema.PRODUCERS]);
+            Boolean winner = YES_SENTENCE.equalsIgnoreCase(trimmed(fields[MovieCsvSchema.WINNER]));
+
+            return Movie.builder()
+                    .year(year)
+                    .title(title)
+                    .studios(studios.isEmpty() ? null : studioDictionary.canonicalize(studios))
+                    .producers(producers.isEmpty() ? null : producerDictionary.canonicalize(producers))
+                    .winner(winner)
+                    .importUuid(importId)
+                    .build();
+
+        } catch (NumberFormatException e) {
+            throw new RowParseException(MovieCsvSchema.fieldName(MovieCsvSchema.YEAR), "Ano deve ser um número válido: " + rawYear);
+        }
+    }
+
+    /**
+     * Colunas opcionais ausentes do cabeçalho chegam nulas
+     */
+    private static String trimmed(String value) {
+        return value == null ? "" : value.trim();
+    }
+}
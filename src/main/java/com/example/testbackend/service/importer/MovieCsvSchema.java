@@ -0,0 +1,111 @@
+package com.example.testbackend.service.importer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Posição de cada campo do filme no arquivo, resolvida uma única vez a partir do cabeçalho.
+ * Arquivos sem cabeçalho usam o formato posicional year;title;studios;producers;winner.
+ * Colunas desconhecidas são ignoradas pelo tokenizador sem serem materializadas.
+ */
+final class MovieCsvSchema {
+
+    static final int YEAR = 0;
+    static final int TITLE = 1;
+    static final int STUDIOS = 2;
+    static final int PRODUCERS = 3;
+    static final int WINNER = 4;
+    static final int FIELD_COUNT = 5;
+
+    private static final String[] FIELD_NAMES = {"year", "title", "studios", "producers", "winner"};
+    private static final int[] REQUIRED_FIELDS = {YEAR, TITLE};
+
+    static final MovieCsvSchema POSITIONAL = new MovieCsvSchema(new int[]{0, 1, 2, 3, 4},
+            "Registro deve ter pelo menos 5 colunas: year;title;studios;producers;winner");
+
+    private final int[] columnByField;
+    private final int[] fieldByColumn;
+    private final int minimumColumns;
+    private final String missingColumnsMessage;
+
+    private MovieCsvSchema(int[] columnByField, String missingColumnsMessage) {
+        this.columnByField = columnByField;
+        int lastColumn = Arrays.stream(columnByField).max().orElse(-1);
+        this.fieldByColumn = new int[lastColumn + 1];
+        Arrays.fill(fieldByColumn, -1);
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            if (columnByField[field] >= 0) {
+                fieldByColumn[columnByField[field]] = field;
+            }
+        }
+        this.minimumColumns = lastColumn + 1;
+        this.missingColumnsMessage = missingColumnsMessage;
+    }
+
+    /**
+     * Uma linha é cabeçalho quando alguma célula é o nome da coluna "year"
+     */
+    static boolean isHeader(List<String> record) {
+        return record.stream().anyMatch(cell -> FIELD_NAMES[YEAR].equals(normalize(cell)));
+    }
+
+    /**
+     * Monta o mapeamento a partir do cabeçalho; colunas repetidas usam a primeira ocorrência
+     */
+    static MovieCsvSchema fromHeader(List<String> header) {
+        int[] columnByField = new int[FIELD_COUNT];
+        Arrays.fill(columnByField, -1);
+        for (int column = 0; column < header.size(); column++) {
+            int field = Arrays.asList(FIELD_NAMES).indexOf(normalize(header.get(column)));
+            if (field >= 0 && columnByField[field] < 0) {
+                columnByField[field] = column;
+            }
+        }
+        for (int field : REQUIRED_FIELDS) {
+            if (columnByField[field] < 0) {
+                throw new IllegalArgumentException("Cabeçalho sem a coluna obrigatória: " + FIELD_NAMES[field]);
+            }
+        }
+        int minimumColumns = Arrays.stream(columnByField).max().orElse(-1) + 1;
+        return new MovieCsvSchema(columnByField,
+                "Registro deve ter pelo menos " + minimumColumns + " colunas conforme o cabeçalho");
+    }
+
+    /**
+     * Coluna -> campo do filme (ou -1), usado pelo tokenizador para projetar apenas as colunas necessárias
+     */
+    int[] fieldByColumn() {
+        return fieldByColumn;
+    }
+
+    int minimumColumns() {
+        return minimumColumns;
+    }
+
+    String missingColumnsMessage() {
+        return missingColumnsMessage;
+    }
+
+    /**
+     * Projeta um registro já materializado (a primeira linha de um arquivo sem cabeçalho)
+     */
+    String[] project(List<String> record) {
+        String[] fields = new String[FIELD_COUNT];
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            int column = columnByField[field];
+            if (column >= 0 && column < record.size()) {
+                fields[field] = record.get(column);
+            }
+        }
+        return fields;
+    }
+
+    static String fieldName(int field) {
+        return FIELD_NAMES[field];
+    }
+
+    private static String normalize(String cell) {
+        return cell.replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.testbackend.service.importer;
+
+import com.example.testbackend.model.Movie;
+import com.example.testbackend.monitoring.RequestSqlStats;
+import com.example.testbackend.repository.MovieStore;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+/**
+ * Pipeline de gravação de uma importação: a leitura coloca os blocos em uma fila limitada (que bloqueia a
+ * leitura quando os gravadores ficam para trás) e vários gravadores a consomem, cada bloco em sua própria
+ * transação. Cada importação tem sua fila e seus gravadores, então importações diferentes não disputam
+ * a mesma fila.
+ */
+@Slf4j
+public class PipelinedMovieChunkWriter implements MovieChunkWriter {
+
+    private static final List<Movie> END_OF_IMPORT = List.of();
+
+    private final MovieStore movieStore;
+    private final BlockingQueue<List<Movie>> queue;
+    private final List<Future<?>> writers;
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    private final AtomicBoolean finished = new AtomicBoolean();
+
+    public PipelinedMovieChunkWriter(MovieStore movieStore, ExecutorService writerExecutor, int writerCount, int queueCapacity) {
+        this.movieStore = movieStore;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.writers = IntStream.range(0, Math.max(1, writerCount))
+                .<Future<?>>mapToObj(i -> writerExecutor.submit(RequestSqlStats.propagate(this::drain)))
+                .toList();
+    }
+
+    @Override
+    public void write(List<Movie> chunk) {
+        throwIfFailed();
+        try {
+            queue.put(chunk);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Importação interrompida enquanto aguardava a gravação", e);
+        }
+    }
+
+    @Override
+    public void finish() {
+        awaitWriters();
+        throwIfFailed();
+    }
+
+    @Override
+    public void abort() {
+        failure.compareAndSet(null, new IllegalStateException("Importação cancelada"));
+        awaitWriters();
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                List<Movie> chunk = queue.take();
+                if (chunk == END_OF_IMPORT) {
+                    return;
+                }
+                // Após uma falha, os blocos restantes são descartados para não bloquear a leitura
+                if (failure.get() == null) {
+                    save(chunk);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void save(List<Movie> chunk) {
+        try {
+            movieStore.saveAll(chunk);
+        } catch (RuntimeException e) {
+            log.error("Erro ao gravar bloco de {} filmes: {}", chunk.size(), e.getMessage());
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    private void awaitWriters() {
+        if (!finished.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            for (int i = 0; i < writers.size(); i++) {
+                queue.put(END_OF_IMPORT);
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writers.forEach(writer -> writer.cancel(true));
+            failure.compareAndSet(null, new IllegalStateException("Importação interrompida enquanto aguardava a gravação", e));
+        } catch (ExecutionException e) {
+            failure.compareAndSet(null, new IllegalStateException("Erro no gravador da importação", e.getCause()));
+        }
+    }
+
+    private void throwIfFailed() {
+        RuntimeException exception = failure.get();
+        if (exception != null) {
+            throw exception;
+        }
+    }
+}
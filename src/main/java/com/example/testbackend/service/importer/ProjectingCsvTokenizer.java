@@ -0,0 +1,181 @@
+package com.example.testbackend.service.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tokenizador CSV que lê direto de um buffer de caracteres e só cria Strings para as colunas projetadas;
+ * as demais são percorridas e descartadas. Suporta campos entre aspas (com aspas duplicadas como escape e
+ * quebras de linha internas) e terminadores \n, \r\n e \r. Linhas em branco são ignoradas.
+ */
+final class ProjectingCsvTokenizer {
+
+    /**
+     * Retorno de {@link #nextRecord} para um registro recusado pelo filtro de colunas
+     */
+    static final int FILTERED = -2;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char QUOTE = '"';
+
+    private final Reader reader;
+    private final char separator;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder(64);
+    private int position;
+    private int limit;
+    private long linesRead;
+
+    ProjectingCsvTokenizer(Reader reader, char separator) {
+        this.reader = reader;
+        this.separator = separator;
+    }
+
+    /**
+     * Quantidade de linhas físicas consumidas até o fim do último registro lido
+     */
+    long getLinesRead() {
+        return linesRead;
+    }
+
+    /**
+     * Lê o próximo registro materializando todas as colunas, ou retorna null no fim do arquivo
+     */
+    List<String> nextRawRecord() throws IOException {
+        List<String> record = new ArrayList<>();
+        return readRecord(null, null, record) < 0 ? null : record;
+    }
+
+    /**
+     * Lê o próximo registro guardando em {@code slots[fieldByColumn[coluna]]} apenas as colunas mapeadas.
+     * Retorna a quantidade de colunas do registro, ou -1 no fim do arquivo.
+     */
+    int nextRecord(int[] fieldByColumn, String[] slots) throws IOException {
+        return nextRecord(fieldByColumn, slots, null);
+    }
+
+    /**
+     * Como {@link #nextRecord(int[], String[])}, mas cada coluna projetada é submetida ao filtro antes de virar
+     * String; na primeira recusa o restante do registro é descartado e o retorno é {@link #FILTERED}
+     */
+    int nextRecord(int[] fieldByColumn, String[] slots, FieldFilter filter) throws IOException {
+        Arrays.fill(slots, null);
+        return readRecord(fieldByColumn, slots, null, filter);
+    }
+
+    private int readRecord(int[] fieldByColumn, String[] slots, List<String> all) throws IOException {
+        return readRecord(fieldByColumn, slots, all, null);
+    }
+
+    private int readRecord(int[] fieldByColumn, String[] slots, List<String> all, FieldFilter filter) throws IOException {
+        int c = read();
+        while (c == '\n' || c == '\r') {
+            endLine(c);
+            c = read();
+        }
+        if (c < 0) {
+            return -1;
+        }
+
+        int column = 0;
+        boolean rejected = false;
+        while (true) {
+            int slot = all != null ? column : column < fieldByColumn.length ? fieldByColumn[column] : -1;
+            boolean keep = slot >= 0 && !rejected;
+            field.setLength(0);
+
+            if (c == QUOTE) {
+                c = readQuoted(keep);
+            }
+            while (c >= 0 && c != separator && c != '\n' && c != '\r') {
+                if (keep) {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+
+            if (all != null) {
+                all.add(field.toString());
+            } else if (keep) {
+                if (filter != null && !filter.accept(slot, field)) {
+                    rejected = true;
+                } else {
+                    slots[slot] = field.toString();
+                }
+            }
+            column++;
+
+            if (c == separator) {
+                c = read();
+                continue;
+            }
+            endLine(c);
+            return rejected ? FILTERED : column;
+        }
+    }
+
+    /**
+     * Consome um campo entre aspas e retorna o caractere seguinte à aspa de fechamento
+     */
+    private int readQuoted(boolean keep) throws IOException {
+        while (true) {
+            int c = read();
+            if (c < 0) {
+                throw new IOException("Campo entre aspas não fechado na linha " + (linesRead + 1));
+            }
+            if (c == QUOTE) {
+                c = read();
+                if (c != QUOTE) {
+                    return c;
+                }
+            } else if (c == '\n') {
+                linesRead++;
+            }
+            if (keep) {
+                field.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * Conta a linha terminada por {@code c}, consumindo o \n de um \r\n
+     */
+    private void endLine(int c) throws IOException {
+        linesRead++;
+        if (c == '\r' && peek() == '\n') {
+            position++;
+        }
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, buffer.length);
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+
+    /**
+     * Decide, pelo texto da coluna, se o registro segue sendo lido
+     */
+    interface FieldFilter {
+
+        boolean accept(int field, CharSequence value);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.testbackend.service.importer;
+
+import lombok.Getter;
+
+/**
+ * Erro de conversão de uma linha do CSV, indicando a coluna que causou a falha
+ */
+@Getter
+public class RowParseException extends IllegalArgumentException {
+
+    private final String column;
+
+    public RowParseException(String column, String message) {
+        super(message);
+        this.column = column;
+    }
+}
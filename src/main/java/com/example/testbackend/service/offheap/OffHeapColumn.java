@@ -0,0 +1,83 @@
+package com.example.testbackend.service.offheap;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Coluna de inteiros de largura fixa (1 ou 4 bytes) fora do heap, em páginas de {@code ByteBuffer} diretos
+ * de 2^20 valores. Cada página é alocada inteira quando a anterior enche, sem cópias durante a escrita; só a
+ * última é ajustada ao tamanho exato em {@link #seal()}.
+ * Depois de selada, a coluna aceita leituras concorrentes (apenas leituras absolutas).
+ */
+final class OffHeapColumn {
+
+    private static final int PAGE_SHIFT = 20;
+    private static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+
+    private final int width;
+    private final List<ByteBuffer> pageList = new ArrayList<>();
+    private ByteBuffer[] pages;
+    private int size;
+
+    OffHeapColumn(int width) {
+        if (width != Byte.BYTES && width != Integer.BYTES) {
+            throw new IllegalArgumentException("Largura de coluna não suportada: " + width);
+        }
+        this.width = width;
+    }
+
+    void append(int value) {
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Coluna fora do heap excedeu o limite de valores");
+        }
+        if (size == pageList.size() << PAGE_SHIFT) {
+            pageList.add(allocate(width << PAGE_SHIFT));
+        }
+        ByteBuffer page = pageList.get(pageList.size() - 1);
+        int offset = (size & PAGE_MASK) * width;
+        if (width == Byte.BYTES) {
+            page.put(offset, (byte) value);
+        } else {
+            page.putInt(offset, value);
+        }
+        size++;
+    }
+
+    /**
+     * Encerra a escrita, liberando a folga da última página
+     */
+    void seal() {
+        if (!pageList.isEmpty()) {
+            int last = pageList.size() - 1;
+            int used = ((size - 1) & PAGE_MASK) * width + width;
+            pageList.set(last, copy(pageList.get(last), used));
+        }
+        pages = pageList.toArray(new ByteBuffer[0]);
+    }
+
+    int get(int index) {
+        ByteBuffer page = pages[index >>> PAGE_SHIFT];
+        int offset = (index & PAGE_MASK) * width;
+        return width == Byte.BYTES ? page.get(offset) : page.getInt(offset);
+    }
+
+    int size() {
+        return size;
+    }
+
+    long bytes() {
+        return pageList.stream().mapToLong(ByteBuffer::capacity).sum();
+    }
+
+    private static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    private static ByteBuffer copy(ByteBuffer source, int capacity) {
+        ByteBuffer target = allocate(capacity);
+        target.put(0, source, 0, capacity);
+        return target;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.testbackend.service.offheap;
+
+import com.example.testbackend.service.awards.AwardDimension;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Visão colunar, fora do heap, de uma importação: ano (4 bytes) e vencedor (1 byte) por filme e, para cada
+ * dimensão, os ids de dicionário dos nomes no formato CSR (offsets por filme + ids). No heap ficam apenas
+ * os descritores das páginas.
+ */
+public final class OffHeapImport {
+
+    private final int rowCount;
+    private final OffHeapColumn years;
+    private final OffHeapColumn winners;
+    private final Map<AwardDimension, OffHeapColumn> offsets;
+    private final Map<AwardDimension, OffHeapColumn> ids;
+
+    OffHeapImport(OffHeapColumn years, OffHeapColumn winners,
+                  EnumMap<AwardDimension, OffHeapColumn> offsets, EnumMap<AwardDimension, OffHeapColumn> ids) {
+        this.rowCount = years.size();
+        this.years = years;
+        this.winners = winners;
+        this.offsets = offsets;
+        this.ids = ids;
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public boolean isWinner(int row) {
+        return winners.get(row) != 0;
+    }
+
+    public int year(int row) {
+        return years.get(row);
+    }
+
+    /**
+     * Posição do primeiro id da dimensão para o filme; os ids do filme vão até {@code idsStart(row + 1)}
+     */
+    public int idsStart(AwardDimension dimension, int row) {
+        return offsets.get(dimension).get(row);
+    }
+
+    public int idAt(AwardDimension dimension, int position) {
+        return ids.get(dimension).get(position);
+    }
+
+    public long offHeapBytes() {
+        long bytes = years.bytes() + winners.bytes();
+        for (OffHeapColumn column : offsets.values()) {
+            bytes += column.bytes();
+        }
+        for (OffHeapColumn column : ids.values()) {
+            bytes += column.bytes();
+        }
+        return bytes;
+    }
+}
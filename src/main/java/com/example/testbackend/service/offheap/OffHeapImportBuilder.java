@@ -0,0 +1,57 @@
+package com.example.testbackend.service.offheap;
+
+import com.example.testbackend.model.Movie;
+import com.example.testbackend.service.awards.AwardDimension;
+import com.example.testbackend.service.dictionary.NameListDictionary;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Monta o {@link OffHeapImport} a partir dos blocos de uma importação. Seguro para as várias threads de uma
+ * importação em lote; a ordem das linhas entre blocos não importa para a análise.
+ */
+public class OffHeapImportBuilder {
+
+    private final Map<AwardDimension, NameListDictionary> dictionaries;
+    private final OffHeapColumn years = new OffHeapColumn(Integer.BYTES);
+    private final OffHeapColumn winners = new OffHeapColumn(Byte.BYTES);
+    private final EnumMap<AwardDimension, OffHeapColumn> offsets = new EnumMap<>(AwardDimension.class);
+    private final EnumMap<AwardDimension, OffHeapColumn> ids = new EnumMap<>(AwardDimension.class);
+
+    OffHeapImportBuilder(Map<AwardDimension, NameListDictionary> dictionaries) {
+        this.dictionaries = dictionaries;
+        for (AwardDimension dimension : AwardDimension.values()) {
+            OffHeapColumn dimensionOffsets = new OffHeapColumn(Integer.BYTES);
+            dimensionOffsets.append(0);
+            offsets.put(dimension, dimensionOffsets);
+            ids.put(dimension, new OffHeapColumn(Integer.BYTES));
+        }
+    }
+
+    public synchronized void addAll(List<Movie> movies) {
+        for (Movie movie : movies) {
+            years.append(movie.getYear());
+            winners.append(Boolean.TRUE.equals(movie.getWinner()) ? 1 : 0);
+            for (AwardDimension dimension : AwardDimension.values()) {
+                OffHeapColumn dimensionIds = ids.get(dimension);
+                String values = dimension.valuesOf(movie);
+                if (values != null && !values.isBlank()) {
+                    for (int id : dictionaries.get(dimension).idsOf(values)) {
+                        dimensionIds.append(id);
+                    }
+                }
+                offsets.get(dimension).append(dimensionIds.size());
+            }
+        }
+    }
+
+    public synchronized OffHeapImport build() {
+        years.seal();
+        winners.seal();
+        offsets.values().forEach(OffHeapColumn::seal);
+        ids.values().forEach(OffHeapColumn::seal);
+        return new OffHeapImport(years, winners, offsets, ids);
+    }
+}
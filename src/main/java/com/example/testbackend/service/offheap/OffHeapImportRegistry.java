@@ -0,0 +1,111 @@
+package com.example.testbackend.service.offheap;
+
+import com.example.testbackend.config.StorageProperties;
+import com.example.testbackend.service.awards.AwardDimension;
+import com.example.testbackend.service.awards.AwardIntervalEngine;
+import com.example.testbackend.service.dictionary.NameListDictionary;
+import com.sun.management.HotSpotDiagnosticMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Importações mantidas fora do heap para a análise de prêmios ({@code app.storage.off-heap}). Quando o total
+ * ultrapassa {@code max-size}, as importações mais antigas são descartadas e voltam a ser lidas do
+ * armazenamento. A memória de um ByteBuffer direto é devolvida quando o coletor libera o objeto que o referencia.
+ * Na inicialização, {@code max-size} é conferido contra o limite de memória direta da JVM
+ * ({@code -XX:MaxDirectMemorySize}, que por padrão é o {@code -Xmx}): acima dele as alocações falhariam com
+ * {@link OutOfMemoryError} antes de o descarte entrar em ação.
+ */
+@Component
+@Slf4j
+public class OffHeapImportRegistry {
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final Map<AwardDimension, NameListDictionary> dictionaries = new EnumMap<>(AwardDimension.class);
+    private final LinkedHashMap<String, OffHeapImport> imports = new LinkedHashMap<>();
+    private long totalBytes;
+
+    public OffHeapImportRegistry(StorageProperties storageProperties, AwardIntervalEngine awardIntervalEngine) {
+        this.enabled = storageProperties.getOffHeap().isEnabled();
+        this.maxBytes = storageProperties.getOffHeap().getMaxSize().toBytes();
+        if (enabled) {
+            long directLimit = maxDirectMemory();
+            if (maxBytes >= directLimit) {
+                throw new IllegalStateException("app.storage.off-heap.max-size (" + maxBytes + " bytes) precisa ser"
+                        + " menor que o limite de memória direta da JVM (" + directLimit + " bytes);"
+                        + " reduza o max-size ou aumente -XX:MaxDirectMemorySize");
+            }
+            log.info("Cópia fora do heap limitada a {} bytes (memória direta da JVM: {} bytes)", maxBytes, directLimit);
+        }
+        for (AwardDimension dimension : AwardDimension.values()) {
+            dictionaries.put(dimension, awardIntervalEngine.dictionaryOf(dimension));
+        }
+    }
+
+    /**
+     * Limite de memória direta da JVM: o valor de {@code -XX:MaxDirectMemorySize} ou, quando não informado (0),
+     * o heap máximo
+     */
+    static long maxDirectMemory() {
+        try {
+            HotSpotDiagnosticMXBean diagnostics = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            long configured = Long.parseLong(diagnostics.getVMOption("MaxDirectMemorySize").getValue());
+            if (configured > 0) {
+                return configured;
+            }
+        } catch (RuntimeException ignored) {
+            // JVM sem a opção da HotSpot; vale o padrão
+        }
+        return Runtime.getRuntime().maxMemory();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public OffHeapImportBuilder newBuilder() {
+        return new OffHeapImportBuilder(dictionaries);
+    }
+
+    public synchronized void register(String importUuid, OffHeapImport offHeapImport) {
+        if (offHeapImport.rowCount() == 0) {
+            return;
+        }
+        totalBytes += offHeapImport.offHeapBytes();
+        imports.put(importUuid, offHeapImport);
+
+        Iterator<Map.Entry<String, OffHeapImport>> eldest = imports.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, OffHeapImport> entry = eldest.next();
+            if (entry.getKey().equals(importUuid)) {
+                break;
+            }
+            totalBytes -= entry.getValue().offHeapBytes();
+            eldest.remove();
+            log.info("Importação {} removida da memória fora do heap (limite de {} bytes)", entry.getKey(), maxBytes);
+        }
+    }
+
+    public synchronized void evict(String importUuid) {
+        OffHeapImport removed = imports.remove(importUuid);
+        if (removed != null) {
+            totalBytes -= removed.offHeapBytes();
+        }
+    }
+
+    public synchronized Optional<OffHeapImport> find(String importUuid) {
+        return Optional.ofNullable(imports.get(importUuid));
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+}
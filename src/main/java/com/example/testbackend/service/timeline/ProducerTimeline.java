@@ -0,0 +1,62 @@
+package com.example.testbackend.service.timeline;
+
+import java.util.Arrays;
+
+/**
+ * Índice imutável das vitórias de cada produtor em uma importação, no formato CSR: os produtores ficam
+ * ordenados pela chave de comparação do nome e os anos de vitória de todos eles em um único array de int,
+ * delimitado por {@code offsets}. Buscas por nome e por prefixo são feitas por busca binária.
+ */
+public final class ProducerTimeline {
+
+    private final String[] keys;
+    private final int[] producerIds;
+    private final int[] offsets;
+    private final int[] years;
+
+    ProducerTimeline(String[] keys, int[] producerIds, int[] offsets, int[] years) {
+        this.keys = keys;
+        this.producerIds = producerIds;
+        this.offsets = offsets;
+        this.years = years;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Posição do produtor com a chave informada, ou -1 se ele não venceu nesta importação
+     */
+    public int indexOf(String key) {
+        int index = Arrays.binarySearch(keys, key);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * Primeira posição cuja chave começa com o prefixo (ou a posição em que estaria)
+     */
+    public int firstIndexWithPrefix(String keyPrefix) {
+        int index = Arrays.binarySearch(keys, keyPrefix);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    public boolean hasPrefix(int index, String keyPrefix) {
+        return index < keys.length && keys[index].startsWith(keyPrefix);
+    }
+
+    public int producerIdAt(int index) {
+        return producerIds[index];
+    }
+
+    /**
+     * Anos de vitória, ordenados e sem repetição, do produtor na posição informada
+     */
+    public int[] yearsAt(int index) {
+        return Arrays.copyOfRange(years, offsets[index], offsets[index + 1]);
+    }
+
+    public int winCountAt(int index) {
+        return offsets[index + 1] - offsets[index];
+    }
+}
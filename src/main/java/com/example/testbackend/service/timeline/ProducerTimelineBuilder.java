@@ -0,0 +1,107 @@
+package com.example.testbackend.service.timeline;
+
+import com.example.testbackend.model.Movie;
+import com.example.testbackend.repository.WinnerRow;
+import com.example.testbackend.service.dictionary.ProducerDictionary;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * Acumula os pares (produtor, ano) dos filmes vencedores de uma importação e monta o {@link ProducerTimeline}.
+ * Os pares são guardados como long (id do produtor nos 32 bits altos, ano nos baixos), o que permite ordenar
+ * e agrupar sem criar objetos. Seguro para uso pelas várias threads de uma importação em lote.
+ */
+public class ProducerTimelineBuilder {
+
+    private final ProducerDictionary producerDictionary;
+    private long[] entries = new long[256];
+    private int size;
+
+    public ProducerTimelineBuilder(ProducerDictionary producerDictionary) {
+        this.producerDictionary = producerDictionary;
+    }
+
+    public void addAll(Iterable<Movie> movies) {
+        for (Movie movie : movies) {
+            if (!Boolean.TRUE.equals(movie.getWinner()) || movie.getProducers() == null || movie.getProducers().isBlank()) {
+                continue;
+            }
+            for (int producerId : producerDictionary.idsOf(movie.getProducers())) {
+                add(producerId, movie.getYear());
+            }
+        }
+    }
+
+    /**
+     * Acumula uma linha já filtrada como vencedora, usada na reconstrução por cursor sem carregar entidades.
+     */
+    public void add(WinnerRow row) {
+        if (row.getProducers() == null || row.getProducers().isBlank()) {
+            return;
+        }
+        for (int producerId : producerDictionary.idsOf(row.getProducers())) {
+            add(producerId, row.getYear());
+        }
+    }
+
+    private synchronized void add(int producerId, int year) {
+        if (size == entries.length) {
+            entries = Arrays.copyOf(entries, size * 2);
+        }
+        entries[size++] = ((long) producerId << 32) | (year & 0xFFFFFFFFL);
+    }
+
+    public synchronized ProducerTimeline build() {
+        long[] sorted = Arrays.copyOf(entries, size);
+        Arrays.sort(sorted);
+
+        // Agrupa por produtor, descartando anos repetidos
+        int[] groupIds = new int[sorted.length];
+        int[] groupStarts = new int[sorted.length + 1];
+        int[] allYears = new int[sorted.length];
+        int groups = 0;
+        int yearCount = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i > 0 && sorted[i] == sorted[i - 1]) {
+                continue;
+            }
+            int producerId = (int) (sorted[i] >>> 32);
+            if (groups == 0 || groupIds[groups - 1] != producerId) {
+                groupIds[groups] = producerId;
+                groupStarts[groups++] = yearCount;
+            }
+            allYears[yearCount++] = (int) sorted[i];
+        }
+        groupStarts[groups] = yearCount;
+
+        // Reordena os grupos pela chave do nome para permitir busca binária e por prefixo
+        String[] groupKeys = new String[groups];
+        for (int group = 0; group < groups; group++) {
+            groupKeys[group] = producerDictionary.keyOf(producerDictionary.nameOf(groupIds[group]));
+        }
+        int[] order = IntStream.range(0, groups).boxed()
+                .sorted(Comparator.comparing(group -> groupKeys[group]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        String[] keys = new String[groups];
+        int[] producerIds = new int[groups];
+        int[] offsets = new int[groups + 1];
+        int[] years = new int[yearCount];
+        int position = 0;
+        for (int index = 0; index < groups; index++) {
+            int group = order[index];
+            int length = groupStarts[group + 1] - groupStarts[group];
+            keys[index] = groupKeys[group];
+            producerIds[index] = groupIds[group];
+            offsets[index] = position;
+            System.arraycopy(allYears, groupStarts[group], years, position, length);
+            position += length;
+        }
+        offsets[groups] = position;
+
+        return new ProducerTimeline(keys, producerIds, offsets, years);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.testbackend.service.timeline;
+
+import com.example.testbackend.config.ImportProperties;
+import com.example.testbackend.exception.ResourceNotFoundException;
+import com.example.testbackend.repository.MovieStore;
+import com.example.testbackend.service.dictionary.ProducerDictionary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Índices de vitórias por produtor das importações recentes. O índice é registrado ao final de cada importação;
+ * importações fora do cache (recuperadas do armazenamento ou descartadas pelo limite) são reindexadas sob demanda,
+ * lendo apenas os vencedores por cursor em vez de carregar a importação inteira como entidades.
+ */
+@Component
+@Slf4j
+public class ProducerTimelineRegistry {
+
+    private final MovieStore movieStore;
+    private final ProducerDictionary producerDictionary;
+    private final Map<String, ProducerTimeline> timelines;
+
+    public ProducerTimelineRegistry(MovieStore movieStore, ProducerDictionary producerDictionary,
+                                    ImportProperties importProperties) {
+        this.movieStore = movieStore;
+        this.producerDictionary = producerDictionary;
+        int capacity = importProperties.getTimelineCacheSize();
+        this.timelines = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ProducerTimeline> eldest) {
+                return size() > capacity;
+            }
+        });
+    }
+
+    public ProducerTimelineBuilder newBuilder() {
+        return new ProducerTimelineBuilder(producerDictionary);
+    }
+
+    public void register(String importUuid, ProducerTimeline timeline) {
+        timelines.put(importUuid, timeline);
+    }
+
+    public void evict(String importUuid) {
+        timelines.remove(importUuid);
+    }
+
+    public ProducerTimeline get(String importUuid) {
+        ProducerTimeline timeline = timelines.get(importUuid);
+        if (timeline != null) {
+            return timeline;
+        }
+
+        if (!movieStore.existsByImportUuid(importUuid)) {
+            throw new ResourceNotFoundException("Nenhum filme encontrado para o UUID de importação: " + importUuid);
+        }
+        log.debug("Reconstruindo índice de produtores da importação {}", importUuid);
+
+        ProducerTimelineBuilder builder = newBuilder();
+        movieStore.forEachWinnerByYear(importUuid, Integer.MIN_VALUE, Integer.MAX_VALUE, builder::add);
+        timeline = builder.build();
+        timelines.put(importUuid, timeline);
+        return timeline;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.testbackend.admission;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.admission.import-rate.refill-per-second=0.01",
+        "app.admission.import-rate.burst=1",
+        "app.admission.read-rate.refill-per-second=0.01",
+        "app.admission.read-rate.burst=2",
+        "app.admission.import-concurrency.max-weight=2",
+        "app.admission.import-concurrency.max-queue=0",
+        "app.admission.trusted-proxies=127.0.0.1"
+})
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+public class AdmissionControlFilterTest {
+
+    private static final String CSV = """
+            year;title;studios;producers;winner
+            1990;Movie A;Studio;Joel Silver;yes
+            """;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private AdmissionControlFilter admissionControlFilter;
+
+    @Autowired
+    private ImportConcurrencyLimiter importConcurrencyLimiter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilters(admissionControlFilter)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve responder 429 com Retry-After quando o cliente esgota seu balde de importações")
+    void shouldRejectImportsAboveClientRate() throws Exception {
+        MockMultipartFile csvFile = new MockMultipartFile("file", "movies.csv", "text/csv", CSV.getBytes());
+
+        mockMvc.perform(multipart("/api/v1/movies/import").file(csvFile).header("X-Client-Id", "rate-client"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(multipart("/api/v1/movies/import").file(csvFile).header("X-Client-Id", "rate-client"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.status").value(429));
+
+        // Outro cliente tem o seu próprio balde
+        mockMvc.perform(multipart("/api/v1/movies/import").file(csvFile).header("X-Client-Id", "other-client"))
+                .andExpect(status().isCreated());
+
+        assertThat(meterRegistry.counter("admission.rejected", "kind", "import", "reason", "rate_limit").count())
+                .isGreaterThanOrEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar o cabeçalho de cliente vindo de endereço que não é proxy confiável")
+    void shouldKeyUntrustedCallersByRemoteAddress() throws Exception {
+        MockMultipartFile csvFile = new MockMultipartFile("file", "movies.csv", "text/csv", CSV.getBytes());
+
+        mockMvc.perform(multipart("/api/v1/movies/import").file(csvFile).header("X-Client-Id", "rotating-1")
+                        .with(remoteAddress("203.0.113.7")))
+                .andExpect(status().isCreated());
+
+        // Trocar o cabeçalho não dá um balde novo: o cliente continua sendo o IP
+        mockMvc.perform(multipart("/api/v1/movies/import").file(csvFile).header("X-Client-Id", "rotating-2")
+                        .with(remoteAddress("203.0.113.7")))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    @DisplayName("Deve recusar importações quando o limite global de concorrência está ocupado, sem afetar leituras")
+    void shouldRejectImportsWhenConcurrencyIsSaturated() throws Exception {
+        MockMultipartFile csvFile = new MockMultipartFile("file", "movies.csv", "text/csv", CSV.getBytes());
+        assertThat(importConcurrencyLimiter.tryAcquire(2)).isTrue();
+        try {
+            mockMvc.perform(multipart("/api/v1/movies/import").file(csvFile).header("X-Client-Id", "busy-client"))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string("Retry-After", "1"));
+
+            mockMvc.perform(get("/api/v1/movies/import/{uuidImport}/awards", "inexistente").header("X-Client-Id", "reader"))
+                    .andExpect(status().isNotFound());
+        } finally {
+            importConcurrencyLimiter.release(2);
+        }
+
+        assertThat(importConcurrencyLimiter.inFlightWeight()).isZero();
+        assertThat(meterRegistry.counter("admission.rejected", "kind", "import", "reason", "concurrency").count())
+                .isGreaterThanOrEqualTo(1.0);
+    }
+
+    private static RequestPostProcessor remoteAddress(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.testbackend.benchmark;
+
+import com.example.testbackend.model.Movie;
+import com.example.testbackend.repository.MovieStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de importação e consulta de um backend de armazenamento. Executado com {@code ./gradlew benchmark}.
+ * O perfil de teste não liga o batch JDBC, então as mesmas propriedades do perfil perf são aplicadas aqui; as
+ * consultas medidas são as da análise de prêmios (vencedores por lista e por cursor), não a leitura completa.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+        "spring.jpa.properties.hibernate.jdbc.fetch_size=500",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@ActiveProfiles("test")
+@Tag("benchmark")
+public abstract class AbstractMovieStoreBenchmarkTest {
+
+    private static final int ROWS = 100_000;
+    private static final int WINNERS = ROWS / 5;
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int QUERIES = 5;
+
+    @Autowired
+    protected MovieStore movieStore;
+
+    @Test
+    @DisplayName("Deve medir a vazão de importação e de consulta do backend de armazenamento")
+    void measureImportAndQueryThroughput() {
+        String importUuid = UUID.randomUUID().toString();
+
+        long importStart = System.nanoTime();
+        List<Movie> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < ROWS; i++) {
+            chunk.add(Movie.builder()
+                    .year(1980 + i % 40)
+                    .title("Movie " + i)
+                    .studios("Studio " + i % 100)
+                    .producers("Producer " + i % 5_000)
+                    .winner(i % 5 == 0)
+                    .importUuid(importUuid)
+                    .build());
+            if (chunk.size() == CHUNK_SIZE) {
+                movieStore.saveAll(chunk);
+                chunk = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+        movieStore.saveAll(chunk);
+        double importSeconds = (System.nanoTime() - importStart) / 1e9;
+
+        long queryStart = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            assertThat(movieStore.findWinnersByImportUuid(importUuid, Integer.MIN_VALUE, Integer.MAX_VALUE))
+                    .hasSize(WINNERS);
+        }
+        double querySeconds = (System.nanoTime() - queryStart) / 1e9;
+
+        long cursorStart = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            AtomicInteger rows = new AtomicInteger();
+            movieStore.forEachWinnerByYear(importUuid, Integer.MIN_VALUE, Integer.MAX_VALUE, row -> rows.incrementAndGet());
+            assertThat(rows.get()).isEqualTo(WINNERS);
+        }
+        double cursorSeconds = (System.nanoTime() - cursorStart) / 1e9;
+
+        System.out.printf("[benchmark] %s: importação %.0f linhas/s, vencedores %.0f linhas/s, cursor %.0f linhas/s"
+                        + " (%d consultas de %d vencedores em %d linhas)%n",
+                movieStore.getClass().getSimpleName() + " " + backendDescription(),
+                ROWS / importSeconds, WINNERS * QUERIES / querySeconds, WINNERS * QUERIES / cursorSeconds,
+                QUERIES, WINNERS, ROWS);
+    }
+
+    protected abstract String backendDescription();
+}
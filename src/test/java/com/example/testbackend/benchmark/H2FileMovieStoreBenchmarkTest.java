@@ -0,0 +1,14 @@
+package com.example.testbackend.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:file:./build/benchmark/h2-${random.uuid}/movies;CACHE_SIZE=131072;WRITE_DELAY=500"
+})
+public class H2FileMovieStoreBenchmarkTest extends AbstractMovieStoreBenchmarkTest {
+
+    @Override
+    protected String backendDescription() {
+        return "H2 em arquivo";
+    }
+}
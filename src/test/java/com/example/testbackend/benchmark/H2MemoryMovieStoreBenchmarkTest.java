@@ -0,0 +1,9 @@
+package com.example.testbackend.benchmark;
+
+public class H2MemoryMovieStoreBenchmarkTest extends AbstractMovieStoreBenchmarkTest {
+
+    @Override
+    protected String backendDescription() {
+        return "H2 em memória";
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.testbackend.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+        "app.storage.backend=log",
+        "app.storage.log.directory=./build/benchmark/log-${random.uuid}"
+})
+public class LogMovieStoreBenchmarkTest extends AbstractMovieStoreBenchmarkTest {
+
+    @Override
+    protected String backendDescription() {
+        return "log append-only";
+    }
+}
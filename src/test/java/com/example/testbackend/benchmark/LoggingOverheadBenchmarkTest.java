@@ -0,0 +1,79 @@
+package com.example.testbackend.benchmark;
+
+import com.example.testbackend.service.MovieService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Mede o custo do log na vazão de importação: configuração de desenvolvimento (DEBUG da aplicação e do SQL do
+ * Hibernate) contra a configuração do perfil perf (INFO). Executado com {@code ./gradlew benchmark}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+public class LoggingOverheadBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private MovieService movieService;
+
+    @Autowired
+    private LoggingSystem loggingSystem;
+
+    @AfterEach
+    void restoreLogLevels() {
+        setLevels(LogLevel.INFO, LogLevel.WARN);
+    }
+
+    @Test
+    @DisplayName("Deve medir a vazão de importação com log DEBUG e com log INFO")
+    void measureLoggingOverhead() {
+        MockMultipartFile csvFile = new MockMultipartFile("file", "logging.csv", "text/csv", generateCsv());
+
+        // Aquecimento
+        movieService.importCsvFile(csvFile);
+
+        setLevels(LogLevel.DEBUG, LogLevel.DEBUG);
+        double debugRowsPerSecond = measure(csvFile);
+
+        setLevels(LogLevel.INFO, LogLevel.WARN);
+        double infoRowsPerSecond = measure(csvFile);
+
+        System.out.printf("[benchmark] log DEBUG: %.0f linhas/s, log INFO: %.0f linhas/s (custo do log: %.1f%%)%n",
+                debugRowsPerSecond, infoRowsPerSecond, 100.0 * (1 - debugRowsPerSecond / infoRowsPerSecond));
+    }
+
+    private double measure(MockMultipartFile csvFile) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            movieService.importCsvFile(csvFile);
+        }
+        return ROWS * ROUNDS / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private void setLevels(LogLevel applicationLevel, LogLevel sqlLevel) {
+        loggingSystem.setLogLevel("com.example", applicationLevel);
+        loggingSystem.setLogLevel("org.hibernate.SQL", sqlLevel);
+    }
+
+    private byte[] generateCsv() {
+        StringBuilder csv = new StringBuilder("year;title;studios;producers;winner\n");
+        for (int i = 0; i < ROWS; i++) {
+            csv.append(1980 + i % 40).append(";Movie ").append(i).append(";Studio ").append(i % 10)
+                    .append(";Producer ").append(i % 200).append(';').append(i % 3 == 0 ? "yes" : "").append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.testbackend.cluster;
+
+import com.example.testbackend.TestBackendApplication;
+import com.example.testbackend.config.ClusterProperties;
+import com.example.testbackend.repository.MovieStore;
+import com.example.testbackend.service.MovieService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sobe vários nós da aplicação em portas locais, cada um com o seu banco H2 em memória
+ */
+public class ShardRoutingTest {
+
+    private static final String CSV = """
+            year;title;studios;producers;winner
+            1990;Movie A;Studio;Joel Silver;yes
+            1995;Movie B;Studio;Joel Silver;yes
+            """;
+
+    private static final String SECRET = "shard-routing-test-secret";
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    @DisplayName("Deve atender a análise de prêmios de uma importação por qualquer nó, encaminhando ao dono")
+    void shouldForwardRequestsToOwnerNode() throws Exception {
+        Map<String, Integer> ports = Map.of("a", freePort(), "b", freePort());
+        ConfigurableApplicationContext nodeA = startNode("a", ports, "forward");
+        ConfigurableApplicationContext nodeB = startNode("b", ports, "forward");
+
+        List<String> importsOnA = importMany(nodeA, 5);
+        List<String> importsOnB = importMany(nodeB, 5);
+
+        ShardRing ring = nodeA.getBean(ShardRing.class);
+        assertThat(importsOnA).allMatch(uuid -> ring.ownerOf(uuid).getId().equals("a"));
+        assertThat(importsOnB).allMatch(uuid -> ring.ownerOf(uuid).getId().equals("b"));
+
+        for (String uuid : importsOnA) {
+            HttpResponse<String> response = getAwards(ports.get("b"), uuid);
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.headers().firstValue(ShardRoutingFilter.OWNER_HEADER)).contains("a");
+            assertThat(response.body()).contains("Joel Silver");
+        }
+        for (String uuid : importsOnB) {
+            assertThat(getAwards(ports.get("a"), uuid).statusCode()).isEqualTo(200);
+            assertThat(getAwards(ports.get("b"), uuid).statusCode()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve atender a importação em lote no nó que a recebe, sem encaminhar")
+    void shouldServeBatchImportLocally() throws Exception {
+        Map<String, Integer> ports = Map.of("a", freePort(), "b", freePort());
+        ConfigurableApplicationContext nodeA = startNode("a", ports, "forward");
+        ConfigurableApplicationContext nodeB = startNode("b", ports, "forward");
+
+        for (Map.Entry<String, ConfigurableApplicationContext> node : Map.of("a", nodeA, "b", nodeB).entrySet()) {
+            HttpResponse<String> response = postBatch(ports.get(node.getKey()));
+            assertThat(response.statusCode()).isEqualTo(201);
+            assertThat(response.headers().firstValue(ShardRoutingFilter.OWNER_HEADER)).isEmpty();
+
+            String uuid = node.getValue().getBean(ObjectMapper.class).readTree(response.body()).get("uuidImported").asText();
+            assertThat(node.getValue().getBean(ShardRing.class).ownerOf(uuid).getId()).isEqualTo(node.getKey());
+            assertThat(node.getValue().getBean(MovieStore.class).existsByImportUuid(uuid)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ignorar o cabeçalho de encaminhamento e recusar transferências sem o segredo do cluster")
+    void shouldRejectUnauthenticatedClusterTraffic() throws Exception {
+        Map<String, Integer> ports = Map.of("a", freePort(), "b", freePort());
+        ConfigurableApplicationContext nodeA = startNode("a", ports, "forward");
+        startNode("b", ports, "forward");
+        String uuid = importMany(nodeA, 1).get(0);
+        URI transferUri = URI.create("http://localhost:" + ports.get("a") + ShardTransferController.TRANSFER_PATH + uuid);
+
+        // Sem o segredo, o cabeçalho de encaminhamento não evita o roteamento ao dono
+        HttpRequest spoofedForward = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + ports.get("b") + "/api/v1/movies/import/" + uuid + "/awards"))
+                .header(ShardForwarder.FORWARDED_HEADER, "a")
+                .GET()
+                .build();
+        HttpResponse<String> forwarded = httpClient.send(spoofedForward, HttpResponse.BodyHandlers.ofString());
+        assertThat(forwarded.statusCode()).isEqualTo(200);
+        assertThat(forwarded.headers().firstValue(ShardRoutingFilter.OWNER_HEADER)).contains("a");
+
+        HttpResponse<String> unauthenticated = postTransfer(transferUri, "wrong-secret");
+        assertThat(unauthenticated.statusCode()).isEqualTo(403);
+
+        // Com o segredo, uma importação existente não é substituída
+        HttpResponse<String> existing = postTransfer(transferUri, SECRET);
+        assertThat(existing.statusCode()).isEqualTo(409);
+        assertThat(nodeA.getBean(MovieStore.class).findByImportUuid(uuid)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Deve cobrar o cliente no nó que recebe a requisição, e não o nó vizinho no dono")
+    void shouldChargeAdmissionOnReceivingNode() throws Exception {
+        Map<String, Integer> ports = Map.of("a", freePort(), "b", freePort());
+        List<String> admission = List.of(
+                "app.admission.enabled=true",
+                "app.admission.read-rate.refill-per-second=0.001",
+                "app.admission.read-rate.burst=3");
+        ConfigurableApplicationContext nodeA = startNode("a", ports, "forward", admission);
+        startNode("b", ports, "forward", admission);
+        String uuid = importMany(nodeA, 1).get(0);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(getAwards(ports.get("b"), uuid).statusCode()).isEqualTo(200);
+        }
+
+        // O balde esgotado é o do cliente em b: a recusa acontece antes do encaminhamento
+        HttpResponse<String> rejected = getAwards(ports.get("b"), uuid);
+        assertThat(rejected.statusCode()).isEqualTo(429);
+        assertThat(rejected.headers().firstValue(ShardRoutingFilter.OWNER_HEADER)).isEmpty();
+
+        // As requisições encaminhadas não consumiram o balde do dono
+        for (int i = 0; i < 3; i++) {
+            assertThat(getAwards(ports.get("a"), uuid).statusCode()).isEqualTo(200);
+        }
+        assertThat(getAwards(ports.get("a"), uuid).statusCode()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("Deve responder 307 com a URL do dono no modo redirect")
+    void shouldRedirectToOwnerNode() throws Exception {
+        Map<String, Integer> ports = Map.of("a", freePort(), "b", freePort());
+        ConfigurableApplicationContext nodeA = startNode("a", ports, "redirect");
+        startNode("b", ports, "redirect");
+
+        String uuid = importMany(nodeA, 1).get(0);
+
+        HttpResponse<String> response = getAwards(ports.get("b"), uuid);
+        assertThat(response.statusCode()).isEqualTo(307);
+        assertThat(response.headers().firstValue("Location"))
+                .contains("http://localhost:" + ports.get("a") + "/api/v1/movies/import/" + uuid + "/awards");
+    }
+
+    @Test
+    @DisplayName("Deve transferir ao novo nó apenas as importações que passam a pertencer a ele")
+    void shouldRebalanceWhenNodeIsAdded() throws Exception {
+        Map<String, Integer> ports = Map.of("a", freePort(), "b", freePort(), "c", freePort());
+        Map<String, Integer> initialPorts = Map.of("a", ports.get("a"), "b", ports.get("b"));
+        ConfigurableApplicationContext nodeA = startNode("a", initialPorts, "forward");
+        ConfigurableApplicationContext nodeB = startNode("b", initialPorts, "forward");
+        List<String> imports = new ArrayList<>(importMany(nodeA, 10));
+        imports.addAll(importMany(nodeB, 10));
+
+        ConfigurableApplicationContext nodeC = startNode("c", ports, "forward");
+        List<ClusterProperties.Node> allNodes = nodesOf(ports);
+        ShardRebalancer.RebalanceReport reportA = nodeA.getBean(ShardRebalancer.class).updateNodes(allNodes);
+        ShardRebalancer.RebalanceReport reportB = nodeB.getBean(ShardRebalancer.class).updateNodes(allNodes);
+
+        assertThat(reportA.getFailed()).isEmpty();
+        assertThat(reportB.getFailed()).isEmpty();
+        assertThat(reportA.getPending()).isEmpty();
+        assertThat(reportB.getPending()).isEmpty();
+
+        ShardRing ring = nodeC.getBean(ShardRing.class);
+        for (String uuid : imports) {
+            String owner = ring.ownerOf(uuid).getId();
+            boolean movedToC = reportA.getMoved().contains(uuid) || reportB.getMoved().contains(uuid);
+            // Rendezvous hashing: nenhuma importação troca de dono entre os nós antigos
+            assertThat(movedToC).isEqualTo(owner.equals("c"));
+            assertThat(nodeC.getBean(MovieStore.class).findByImportUuid(uuid)).hasSize(movedToC ? 2 : 0);
+
+            for (int port : ports.values()) {
+                assertThat(getAwards(port, uuid).statusCode()).isEqualTo(200);
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext startNode(String nodeId, Map<String, Integer> ports, String routing) {
+        return startNode(nodeId, ports, routing, List.of("app.admission.enabled=false"));
+    }
+
+    private ConfigurableApplicationContext startNode(String nodeId, Map<String, Integer> ports, String routing,
+                                                     List<String> extraProperties) {
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=" + ports.get(nodeId),
+                "app.cluster.enabled=true",
+                "app.cluster.node-id=" + nodeId,
+                "app.cluster.routing=" + routing,
+                "app.cluster.secret=" + SECRET));
+        properties.addAll(extraProperties);
+        List<ClusterProperties.Node> clusterNodes = nodesOf(ports);
+        for (int i = 0; i < clusterNodes.size(); i++) {
+            properties.add("app.cluster.nodes[" + i + "].id=" + clusterNodes.get(i).getId());
+            properties.add("app.cluster.nodes[" + i + "].url=" + clusterNodes.get(i).getUrl());
+        }
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TestBackendApplication.class)
+                .profiles("test")
+                .properties(properties.toArray(String[]::new))
+                .run();
+        nodes.add(context);
+        return context;
+    }
+
+    private static List<ClusterProperties.Node> nodesOf(Map<String, Integer> ports) {
+        return ports.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new ClusterProperties.Node(entry.getKey(), "http://localhost:" + entry.getValue()))
+                .toList();
+    }
+
+    private static List<String> importMany(ConfigurableApplicationContext node, int count) {
+        MovieService movieService = node.getBean(MovieService.class);
+        List<String> uuids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            MockMultipartFile csvFile = new MockMultipartFile("file", "movies.csv", "text/csv", CSV.getBytes());
+            uuids.add(movieService.importCsvFile(csvFile).getUuidImported());
+        }
+        return uuids;
+    }
+
+    private HttpResponse<String> getAwards(int port, String uuid) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/api/v1/movies/import/" + uuid + "/awards")).GET().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> postTransfer(URI uri, String secret) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header(ShardForwarder.FORWARDED_HEADER, "b")
+                .header(ShardForwarder.SECRET_HEADER, secret)
+                .header("Content-Type", "text/csv")
+                .POST(HttpRequest.BodyPublishers.ofString("year;title;studios;producers;winner\n2000;X;S;P;yes\n"))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> postBatch(int port) throws IOException, InterruptedException {
+        String boundary = "shard-routing-boundary";
+        String body = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"files\"; filename=\"movies.csv\"\r\n"
+                + "Content-Type: text/csv\r\n\r\n"
+                + CSV
+                + "\r\n--" + boundary + "--\r\n";
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/movies/import/batch"))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
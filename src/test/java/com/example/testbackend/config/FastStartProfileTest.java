@@ -0,0 +1,51 @@
+package com.example.testbackend.config;
+
+import com.example.testbackend.dto.response.SummarizedAwardsResponse;
+import com.example.testbackend.repository.MovieStore;
+import com.example.testbackend.service.MovieService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"test", "fast-start"})
+public class FastStartProfileTest {
+
+    @Autowired
+    private MovieStore movieStore;
+
+    @Autowired
+    private MovieService movieService;
+
+    @Autowired
+    private StartupProperties startupProperties;
+
+    @Test
+    @DisplayName("Deve carregar os dados iniciais depois da prontidão, em segundo plano, com o mesmo resultado da análise")
+    void shouldLoadInitialDataAfterReady() throws InterruptedException {
+        assertThat(startupProperties.isDeferSeed()).isTrue();
+
+        List<String> importUuids = awaitInitialImport();
+        assertThat(importUuids).hasSize(1);
+
+        SummarizedAwardsResponse awardsResponse = movieService.getSummarizedAwards(importUuids.getFirst());
+        assertThat(awardsResponse.getMin().getFirst().getProducer()).isEqualTo("Joel Silver");
+        assertThat(awardsResponse.getMax().getFirst().getProducer()).isEqualTo("Matthew Vaughn");
+    }
+
+    private List<String> awaitInitialImport() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        List<String> importUuids = movieStore.findImportUuids();
+        while (importUuids.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            importUuids = movieStore.findImportUuids();
+        }
+        return importUuids;
+    }
+}
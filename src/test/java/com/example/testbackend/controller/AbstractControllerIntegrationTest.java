@@ -13,6 +13,7 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.IOException;
 import java.io.InputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -27,7 +28,7 @@ public abstract class AbstractControllerIntegrationTest {
     protected MockMvc mockMvc;
 
     @Autowired
-    private WebApplicationContext webApplicationContext;
+    protected WebApplicationContext webApplicationContext;
 
     @Autowired
     protected MovieRepository movieRepository;
@@ -56,9 +57,28 @@ public abstract class AbstractControllerIntegrationTest {
                 csvInputStream
         );
 
-        return mockMvc.perform(multipart("/api/v1/movies/import")
+        MvcResult result = mockMvc.perform(multipart("/api/v1/movies/import")
                         .file(csvFile))
                 .andExpect(status().isCreated())
                 .andReturn();
+        awaitBackgroundReadModels(objectMapper.readTree(result.getResponse().getContentAsString()).get("uuidImported").asText());
+        return result;
+    }
+
+    /**
+     * Suítes que ligam modelos de leitura gravados em segundo plano (compactação) aguardam aqui até que a
+     * importação seja atendida por eles
+     */
+    protected void awaitBackgroundReadModels(String importUuid) throws Exception {
+    }
+
+    /**
+     * Método helper para ler o conteúdo de um arquivo de mock
+     */
+    protected byte[] readMock(String fileName) throws IOException {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("mocks/" + fileName)) {
+            assertThat(inputStream).isNotNull();
+            return inputStream.readAllBytes();
+        }
     }
 }
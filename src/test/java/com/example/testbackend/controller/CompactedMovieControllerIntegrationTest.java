@@ -0,0 +1,73 @@
+package com.example.testbackend.controller;
+
+import com.example.testbackend.dto.response.ImportResponse;
+import com.example.testbackend.monitoring.RequestSqlStatsSnapshot;
+import com.example.testbackend.monitoring.SqlStatsFilter;
+import com.example.testbackend.monitoring.SqlStatsRegistry;
+import com.example.testbackend.service.compaction.CompactionState;
+import com.example.testbackend.service.compaction.ImportCompactor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Repete a suíte de controller com a compactação ligada: as importações feitas pelo helper só são consultadas
+ * depois que o segmento fica pronto, então as análises de prêmios são respondidas pelo segmento
+ */
+@TestPropertySource(properties = {
+        "app.storage.compaction.enabled=true",
+        "app.storage.compaction.directory=build/compacted-controller-test"
+})
+public class CompactedMovieControllerIntegrationTest extends MovieControllerIntegrationTest {
+
+    @Autowired
+    private ImportCompactor importCompactor;
+
+    @Autowired
+    private SqlStatsFilter sqlStatsFilter;
+
+    @Autowired
+    private SqlStatsRegistry sqlStatsRegistry;
+
+    @Override
+    protected void awaitBackgroundReadModels(String importUuid) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        CompactionState state = importCompactor.progressOf(importUuid).getState();
+        while (state != CompactionState.COMPLETED && state != CompactionState.FAILED
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            state = importCompactor.progressOf(importUuid).getState();
+        }
+        assertThat(state).isEqualTo(CompactionState.COMPLETED);
+    }
+
+    @Override
+    @Test
+    @DisplayName("Deve responder a análise de prêmios pelo segmento compactado, sem consultas SQL")
+    void shouldRecordSqlStatsForAwardsRequest() throws Exception {
+        // Given
+        MvcResult importResult = importCsvFileAndGetResult("movielist.csv");
+        ImportResponse importResponse = objectMapper.readValue(importResult.getResponse().getContentAsString(), ImportResponse.class);
+        MockMvc monitoredMockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilters(sqlStatsFilter)
+                .build();
+
+        // When
+        monitoredMockMvc.perform(get("/api/v1/movies/import/{uuidImport}/awards", importResponse.getUuidImported()))
+                .andExpect(status().isOk());
+
+        // Then
+        RequestSqlStatsSnapshot stats = sqlStatsRegistry.getRecentRequests().getFirst();
+        assertThat(stats.getPath()).endsWith("/awards");
+        assertThat(stats.getSelects()).isZero();
+        assertThat(stats.getEntityLoads()).isZero();
+    }
+}
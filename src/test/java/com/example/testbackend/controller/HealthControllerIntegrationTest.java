@@ -0,0 +1,91 @@
+package com.example.testbackend.controller;
+
+import com.example.testbackend.config.HealthProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = "app.health.cache-ttl=0ms")
+public class HealthControllerIntegrationTest extends AbstractControllerIntegrationTest {
+
+    @Autowired
+    private HealthProperties healthProperties;
+
+    @Autowired
+    private ApplicationAvailability applicationAvailability;
+
+    @AfterEach
+    void restoreLimits() throws Exception {
+        healthProperties.setImportQueueOverload(8);
+        mockMvc.perform(get("/health/ready"));
+    }
+
+    @Test
+    @DisplayName("Deve reportar as verificações reais de saturação e estar pronto sem sobrecarga")
+    void shouldReportSaturationChecks() throws Exception {
+        mockMvc.perform(get("/health/ready"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+
+        mockMvc.perform(get("/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.checks.saturation.database.status").value("UP"))
+                .andExpect(jsonPath("$.checks.saturation.database.details.latencyMs").isNumber())
+                .andExpect(jsonPath("$.checks.saturation.importQueue.details.queueDepth").value(0))
+                .andExpect(jsonPath("$.checks.saturation.heap.details.headroom").isNumber());
+    }
+
+    @Test
+    @DisplayName("Deve responder OUT_OF_SERVICE sob sobrecarga e voltar quando normalizar, sem alterar o ciclo de vida")
+    void shouldRefuseTrafficWhenOverloaded() throws Exception {
+        // Given - qualquer profundidade de fila passa a ser sobrecarga
+        healthProperties.setImportQueueOverload(0);
+
+        // When & Then
+        mockMvc.perform(get("/health/ready"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status").value("OUT_OF_SERVICE"))
+                .andExpect(jsonPath("$.saturation").value("OUT_OF_SERVICE"));
+        mockMvc.perform(get("/health"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status").value("OUT_OF_SERVICE"));
+        // A saturação é só uma contribuição de saúde: o estado do ciclo de vida continua sendo do Spring
+        assertThat(applicationAvailability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+
+        mockMvc.perform(get("/health/live"))
+                .andExpect(status().isOk());
+
+        healthProperties.setImportQueueOverload(8);
+        mockMvc.perform(get("/health/ready"))
+                .andExpect(status().isOk());
+        assertThat(applicationAvailability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    @Test
+    @DisplayName("Deve recusar tráfego quando o ciclo de vida recusa, mesmo sem saturação")
+    void shouldFollowLifecycleReadiness() throws Exception {
+        // Given - como no encerramento do contexto
+        AvailabilityChangeEvent.publish(webApplicationContext, ReadinessState.REFUSING_TRAFFIC);
+
+        try {
+            // When & Then - a sondagem de saturação, que está normal, não devolve a prontidão
+            mockMvc.perform(get("/health/ready"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.lifecycle").value("REFUSING_TRAFFIC"))
+                    .andExpect(jsonPath("$.saturation").value("UP"));
+            assertThat(applicationAvailability.getReadinessState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+        } finally {
+            AvailabilityChangeEvent.publish(webApplicationContext, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+    }
+}
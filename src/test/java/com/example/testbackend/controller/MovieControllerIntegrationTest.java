@@ -1,16 +1,27 @@
 package com.example.testbackend.controller;
 
 import com.example.testbackend.dto.response.ImportResponse;
+import com.example.testbackend.dto.response.ImportedFileResponse;
 import com.example.testbackend.dto.response.ProducerIntervalResponse;
 import com.example.testbackend.dto.response.SummarizedAwardsResponse;
 import com.example.testbackend.model.Movie;
+import com.example.testbackend.monitoring.RequestSqlStatsSnapshot;
+import com.example.testbackend.monitoring.SqlStatsFilter;
+import com.example.testbackend.monitoring.SqlStatsRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.ByteArrayOutputStream;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -21,6 +32,20 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 public class MovieControllerIntegrationTest extends AbstractControllerIntegrationTest {
 
+    @Autowired
+    private SqlStatsFilter sqlStatsFilter;
+
+    @Autowired
+    private SqlStatsRegistry sqlStatsRegistry;
+
+    private static final String INVALID_ROWS_CSV = """
+            year;title;studios;producers;winner
+            1980;Can't Stop the Music;Associated Film Distribution;Allan Carr;yes
+            19x1;Mommie Dearest;Paramount Pictures;Frank Yablans;yes
+            1982;Inchon
+            1983;The Lonely Lady;Universal Studios;Robert R. Weston;yes
+            """;
+
     // ========== TESTES DE IMPORTAÇÃO ==========
 
     @Test
@@ -70,6 +95,85 @@ public class MovieControllerIntegrationTest extends AbstractControllerIntegratio
         assertThat(allMovies).isEmpty();
     }
 
+    @Test
+    @DisplayName("Deve importar arquivos ZIP e CSV.GZ em lote sob um único UUID")
+    void shouldImportZipAndGzipFilesInBatch() throws Exception {
+        // Given
+        byte[] csvContent = readMock("movielist.csv");
+
+        ByteArrayOutputStream zipBytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(zipBytes)) {
+            zipOutputStream.putNextEntry(new ZipEntry("1980-2019.csv"));
+            zipOutputStream.write(csvContent);
+            zipOutputStream.closeEntry();
+        }
+
+        ByteArrayOutputStream gzipBytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(gzipBytes)) {
+            gzipOutputStream.write(csvContent);
+        }
+
+        MockMultipartFile zipFile = new MockMultipartFile("files", "movies.zip", "application/zip", zipBytes.toByteArray());
+        MockMultipartFile gzipFile = new MockMultipartFile("files", "movies.csv.gz", "application/gzip", gzipBytes.toByteArray());
+
+        // When
+        MvcResult result = mockMvc.perform(multipart("/api/v1/movies/import/batch")
+                        .file(zipFile)
+                        .file(gzipFile))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        ImportResponse importResponse = objectMapper.readValue(result.getResponse().getContentAsString(), ImportResponse.class);
+
+        // Then
+        assertThat(importResponse.getFiles())
+                .extracting(ImportedFileResponse::getFileName)
+                .containsExactlyInAnyOrder("movies.zip!/1980-2019.csv", "movies.csv.gz");
+        assertThat(importResponse.getFiles()).allMatch(file -> file.getRows() == 206);
+        assertThat(importResponse.getImportedRows()).isEqualTo(412);
+
+        List<Movie> allMovies = movieRepository.findAll();
+        assertThat(allMovies).hasSize(412);
+        assertThat(allMovies).allMatch(movie -> movie.getImportUuid().equals(importResponse.getUuidImported()));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar e reportar linhas inválidas no modo LENIENT")
+    void shouldSkipAndReportInvalidRowsInLenientMode() throws Exception {
+        // Given
+        MockMultipartFile csvFile = new MockMultipartFile("file", "invalid-rows.csv", "text/csv", INVALID_ROWS_CSV.getBytes());
+
+        // When & Then
+        mockMvc.perform(multipart("/api/v1/movies/import")
+                        .file(csvFile)
+                        .param("mode", "LENIENT"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.importedRows").value(2))
+                .andExpect(jsonPath("$.skippedRows").value(2))
+                .andExpect(jsonPath("$.errors.totalErrors").value(2))
+                .andExpect(jsonPath("$.errors.truncated").value(false))
+                .andExpect(jsonPath("$.errors.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors.errors[0].column").value("year"))
+                .andExpect(jsonPath("$.errors.errors[1].line").value(4));
+
+        assertThat(movieRepository.findAll()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Deve cancelar a importação inteira no modo STRICT quando houver linha inválida")
+    void shouldRejectWholeFileInStrictMode() throws Exception {
+        // Given
+        MockMultipartFile csvFile = new MockMultipartFile("file", "invalid-rows.csv", "text/csv", INVALID_ROWS_CSV.getBytes());
+
+        // When & Then
+        mockMvc.perform(multipart("/api/v1/movies/import")
+                        .file(csvFile))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Linha 3: Ano deve ser um número válido: 19x1"));
+
+        assertThat(movieRepository.findAll()).isEmpty();
+    }
+
     // ========== TESTES DE ANÁLISE DE PRÊMIOS ==========
 
     @Test
@@ -85,6 +189,217 @@ public class MovieControllerIntegrationTest extends AbstractControllerIntegratio
                 .andExpect(jsonPath("$.message").value("Nenhum filme encontrado para o UUID de importação: " + nonExistentUuid));
     }
 
+    @Test
+    @DisplayName("Deve tratar variações de espaços, maiúsculas e acentos como o mesmo produtor")
+    void shouldCanonicalizeProducerNames() throws Exception {
+        // Given
+        String csv = """
+                year;title;studios;producers;winner
+                1990;Movie A;Studio;Joel  Silver;yes
+                1991;Movie B;Studio;joel silver and Zé Ramalho;yes
+                1995;Movie C;Studio;Ze Ramalho;yes
+                """;
+        MockMultipartFile csvFile = new MockMultipartFile("file", "canonical.csv", "text/csv", csv.getBytes());
+        MvcResult importResult = mockMvc.perform(multipart("/api/v1/movies/import").file(csvFile))
+                .andExpect(status().isCreated())
+                .andReturn();
+        ImportResponse importResponse = objectMapper.readValue(importResult.getResponse().getContentAsString(), ImportResponse.class);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/movies/import/{uuidImport}/awards", importResponse.getUuidImported()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.min[0].producer").value("Joel Silver"))
+                .andExpect(jsonPath("$.min[0].interval").value(1))
+                .andExpect(jsonPath("$.max[0].producer").value("Zé Ramalho"))
+                .andExpect(jsonPath("$.max[0].interval").value(4));
+
+        assertThat(movieRepository.findAll())
+                .extracting(Movie::getProducers)
+                .containsExactlyInAnyOrder("Joel Silver", "Joel Silver, Zé Ramalho", "Zé Ramalho");
+    }
+
+    @Test
+    @DisplayName("Deve mapear as colunas pelo cabeçalho, ignorando colunas extras e reordenadas")
+    void shouldMapColumnsByHeader() throws Exception {
+        // Given
+        String csv = """
+                id;winner;budget;producers;title;country;"notes";year;studios
+                1;yes;100;Joel Silver;Movie A;US;"quoted; with separator";1990;Studio
+                2;yes;200;Joel Silver;"Movie ""B""";US;"multi
+                line";1991;Studio
+                3;;300;Someone Else;Movie C;US;;1992;Studio
+                """;
+        MockMultipartFile csvFile = new MockMultipartFile("file", "wide.csv", "text/csv", csv.getBytes());
+
+        // When
+        MvcResult importResult = mockMvc.perform(multipart("/api/v1/movies/import").file(csvFile))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.importedRows").value(3))
+                .andReturn();
+        ImportResponse importResponse = objectMapper.readValue(importResult.getResponse().getContentAsString(), ImportResponse.class);
+
+        // Then
+        mockMvc.perform(get("/api/v1/movies/import/{uuidImport}/awards", importResponse.getUuidImported()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.min[0].producer").value("Joel Silver"))
+                .andExpect(jsonPath("$.min[0].previousWin").value(1990))
+                .andExpect(jsonPath("$.min[0].followingWin").value(1991));
+
+        assertThat(movieRepository.findAll())
+                .extracting(Movie::getTitle)
+                .contains("Movie A", "Movie \"B\"", "Movie C");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cabeçalho sem coluna obrigatória")
+    void shouldRejectHeaderWithoutRequiredColumn() throws Exception {
+        // Given
+        String csv = """
+                year;studios;producers;winner
+                1990;Studio;Joel Silver;yes
+                """;
+        MockMultipartFile csvFile = new MockMultipartFile("file", "no-title.csv", "text/csv", csv.getBytes());
+
+        // When & Then
+        mockMvc.perform(multipart("/api/v1/movies/import").file(csvFile))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve calcular os intervalos entre prêmios por estúdio")
+    void shouldSummarizeAwardsByStudio() throws Exception {
+        // Given
+        String csv = """
+                year;title;studios;producers;winner
+                1990;Movie A;Columbia Pictures, Universal Studios;Producer A;yes
+                1992;Movie B;columbia pictures;Producer B;yes
+                2000;Movie C;Universal Studios and Columbia Pictures;Producer C;yes
+                2001;Movie D;Universal Studios;Producer D;
+                """;
+        MockMultipartFile csvFile = new MockMultipartFile("file", "studios.csv", "text/csv", csv.getBytes());
+        MvcResult importResult = mockMvc.perform(multipart("/api/v1/movies/import").file(csvFile))
+                .andExpect(status().isCreated())
+                .andReturn();
+        ImportResponse importResponse = objectMapper.readValue(importResult.getResponse().getContentAsString(), ImportResponse.class);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/movies/import/{uuidImport}/awards", importResponse.getUuidImported())
+                        .param("dimension", "studios"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.min[0].studio").value("Columbia Pictures"))
+                .andExpect(jsonPath("$.min[0].producer").doesNotExist())
+                .andExpect(jsonPath("$.min[0].interval").value(2))
+                .andExpect(jsonPath("$.max[0].studio").value("Universal Studios"))
+                .andExpect(jsonPath("$.max[0].interval").value(10));
+
+        mockMvc.perform(get("/api/v1/movies/import/{uuidImport}/awards", importResponse.getUuidImported())
+                        .param("dimension", "titles"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve consultar as vitórias de um produtor e buscar produtores por prefixo")
+    void shouldLookupProducerWinsAndSearchByPrefix() throws Exception {
+        // Given
+        MvcResult importResult = importCsvFileAndGetResult("movielist.csv");
+        ImportResponse importResponse = objectMapper.readValue(importResult.getResponse().getContentAsString(), ImportResponse.class);
+        String uuid = importResponse.getUuidImported();
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/movies/import/{uuidImport}/producers/{name}/wins", uuid, "matthew  VAUGHN"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.producer").value("Matthew Vaughn"))
+                .andExpect(jsonPath("$.wins").value(2))
+                .andExpect(jsonPath("$.years[0]").value(2002))
+                .andExpect(jsonPath("$.years[1]").value(2015));
+
+        mockMvc.perform(get("/api/v1/movies/import/{uuidImport}/producers", uuid).param("prefix", "joel"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].producer").value("Joel Silver"))
+                .andExpect(jsonPath("$[0].years[0]").value(1990))
+                .andExpect(jsonPath("$[0].years[1]").value(1991));
+
+        mockMvc.perform(get("/api/v1/movies/import/{uuidImport}/producers/{name}/wins", uuid, "Produtor Inexistente"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve consultar as vitórias de um produtor pelo apelido configurado")
+    void shouldLookupProducerWinsByAlias() throws Exception {
+        // Given
+        MvcResult importResult = importCsvFileAndGetResult("movielist.csv");
+        ImportResponse importResponse = objectMapper.readValue(importResult.getResponse().getContentAsString(), ImportResponse.class);
+        String uuid = importResponse.getUuidImported();
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/movies/import/{uuidImport}/producers/{name}/wins", uuid, "MATT  vaughn"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.producer").value("Matthew Vaughn"))
+                .andExpect(jsonPath("$.wins").value(2));
+    }
+
+    @Test
+    @DisplayName("Deve gravar apenas as linhas aceitas pelos filtros de importação")
+    void shouldApplyImportFilters() throws Exception {
+        // Given
+        String csv = """
+                year;title;studios;producers;winner
+                1985;Movie A;Studio;Joel Silver;yes
+                1990;Movie B;Studio;Joel Silver;yes
+                1991;Movie C;Studio;Joel Silver;
+                1995;Movie D;Studio;Joel Silver;yes
+                2005;Movie E;Studio;Joel Silver;yes
+                """;
+        MockMultipartFile csvFile = new MockMultipartFile("file", "filtered.csv", "text/csv", csv.getBytes());
+
+        // When & Then
+        MvcResult importResult = mockMvc.perform(multipart("/api/v1/movies/import").file(csvFile)
+                        .param("winnersOnly", "true")
+                        .param("minYear", "1990")
+                        .param("maxYear", "2000"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.importedRows").value(2))
+                .andExpect(jsonPath("$.filteredRows").value(3))
+                .andReturn();
+        ImportResponse importResponse = objectMapper.readValue(importResult.getResponse().getContentAsString(), ImportResponse.class);
+
+        List<Movie> movies = movieRepository.findByImportUuid(importResponse.getUuidImported());
+        assertThat(movies).extracting(Movie::getYear).containsExactlyInAnyOrder(1990, 1995);
+
+        mockMvc.perform(multipart("/api/v1/movies/import").file(csvFile)
+                        .param("minYear", "2000")
+                        .param("maxYear", "1990"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve restringir a análise de prêmios ao intervalo de anos informado")
+    void shouldRestrictAwardsToYearRange() throws Exception {
+        // Given
+        MvcResult importResult = importCsvFileAndGetResult("movielist.csv");
+        ImportResponse importResponse = objectMapper.readValue(importResult.getResponse().getContentAsString(), ImportResponse.class);
+
+        // When & Then - sem a vitória de 1990, Joel Silver deixa de ter o menor intervalo
+        mockMvc.perform(get("/api/v1/movies/import/{uuidImport}/awards", importResponse.getUuidImported())
+                        .param("minYear", "2000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.min[?(@.producer == 'Joel Silver')]").isEmpty())
+                .andExpect(jsonPath("$.max[0].producer").value("Matthew Vaughn"));
+
+        // Intervalo sem vitórias de um mesmo produtor: resposta vazia, não 404
+        mockMvc.perform(get("/api/v1/movies/import/{uuidImport}/awards", importResponse.getUuidImported())
+                        .param("minYear", "1980")
+                        .param("maxYear", "1980"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.min").isEmpty())
+                .andExpect(jsonPath("$.max").isEmpty());
+
+        mockMvc.perform(get("/api/v1/movies/import/{uuidImport}/awards", importResponse.getUuidImported())
+                        .param("minYear", "2000")
+                        .param("maxYear", "1990"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Deve validar intervalos específicos com arquivo movielist.csv")
     void shouldValidateSpecificIntervalsWithMovielistCsv() throws Exception {
@@ -125,4 +440,47 @@ public class MovieControllerIntegrationTest extends AbstractControllerIntegratio
         assertThat(maxInterval.getPreviousWin()).isEqualTo(2002);
         assertThat(maxInterval.getFollowingWin()).isEqualTo(2015);
     }
+
+    @Test
+    @DisplayName("Deve registrar as estatísticas SQL da análise de prêmios com uma única consulta")
+    void shouldRecordSqlStatsForAwardsRequest() throws Exception {
+        // Given
+        MvcResult importResult = importCsvFileAndGetResult("movielist.csv");
+        ImportResponse importResponse = objectMapper.readValue(importResult.getResponse().getContentAsString(), ImportResponse.class);
+        MockMvc monitoredMockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilters(sqlStatsFilter)
+                .build();
+
+        // When
+        monitoredMockMvc.perform(get("/api/v1/movies/import/{uuidImport}/awards", importResponse.getUuidImported()))
+                .andExpect(status().isOk());
+
+        // Then
+        RequestSqlStatsSnapshot stats = sqlStatsRegistry.getRecentRequests().getFirst();
+        assertThat(stats.getPath()).endsWith("/awards");
+        assertThat(stats.getSelects()).isEqualTo(1);
+        assertThat(stats.getInserts()).isZero();
+        // Apenas os vencedores são lidos: o filtro é aplicado na consulta
+        assertThat(stats.getEntityLoads()).isLessThan(206);
+        assertThat(stats.getUsedEntities()).isEqualTo(stats.getEntityLoads());
+    }
+
+    @Test
+    @DisplayName("Deve contar nas estatísticas SQL as gravações da importação em lote feitas em outras threads")
+    void shouldRecordSqlStatsForBatchImportWorkers() throws Exception {
+        // Given
+        MockMultipartFile csvFile = new MockMultipartFile("files", "movielist.csv", "text/csv", readMock("movielist.csv"));
+        MockMvc monitoredMockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilters(sqlStatsFilter)
+                .build();
+
+        // When - cada arquivo do lote é lido e gravado no executor de importação, fora da thread da requisição
+        monitoredMockMvc.perform(multipart("/api/v1/movies/import/batch").file(csvFile))
+                .andExpect(status().isCreated());
+
+        // Then
+        RequestSqlStatsSnapshot stats = sqlStatsRegistry.getRecentRequests().getFirst();
+        assertThat(stats.getPath()).endsWith("/import/batch");
+        assertThat(stats.getInserts()).isPositive();
+    }
 }
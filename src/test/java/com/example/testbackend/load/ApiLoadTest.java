@@ -0,0 +1,270 @@
+package com.example.testbackend.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teste de carga ponta a ponta contra a aplicação iniciada em uma porta aleatória. Mistura importações de CSVs
+ * gerados em vários tamanhos com consultas frequentes à análise de prêmios e grava um relatório JSON com vazão,
+ * latências p50/p99/p999 e estatísticas de heap/GC em {@code build/reports/load}.
+ * Executado com {@code ./gradlew loadTest}; parâmetros via propriedades de sistema {@code load.*}.
+ * Cliente e servidor rodam na mesma JVM, então as estatísticas de heap/GC incluem os dois.
+ * O controle de admissão fica desligado: com ele, a vazão medida seria a dos limites configurados, e não a da
+ * aplicação, e os relatórios deixariam de ser comparáveis entre commits.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.admission.enabled=false")
+@ActiveProfiles("test")
+@Tag("load")
+public class ApiLoadTest {
+
+    private static final int[] CSV_SIZES = {1_000, 10_000, 50_000};
+    private static final String BOUNDARY = "load-test-boundary";
+    private static final long REJECTED_BACKOFF_MS = 50;
+
+    private final int durationSeconds = Integer.getInteger("load.durationSeconds", 30);
+    private final int importers = Integer.getInteger("load.importers", 2);
+    private final int pollers = Integer.getInteger("load.pollers", 16);
+    private final String commit = System.getProperty("load.commit", "local");
+    private final String baselinePath = System.getProperty("load.baseline", "");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    @DisplayName("Deve executar a carga mista de importação e análise e gravar o relatório")
+    void runMixedLoad() throws Exception {
+        Map<Integer, byte[]> csvBodies = new LinkedHashMap<>();
+        for (int size : CSV_SIZES) {
+            csvBodies.put(size, multipartBody(generateCsv(size)));
+        }
+
+        Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+        for (int size : CSV_SIZES) {
+            recorders.put("import-" + size, new LatencyRecorder());
+        }
+        recorders.put("awards", new LatencyRecorder());
+
+        // Garante ao menos uma importação para as consultas desde o início
+        List<String> importUuids = new CopyOnWriteArrayList<>();
+        importUuids.add(postImport(csvBodies.get(CSV_SIZES[0])));
+
+        MemoryUsage heapBefore = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        Map<String, long[]> gcBefore = gcSnapshot();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        long start = System.nanoTime();
+
+        try (ExecutorService clients = Executors.newFixedThreadPool(importers + pollers)) {
+            for (int i = 0; i < importers; i++) {
+                int seed = i;
+                clients.submit(() -> importLoop(seed, deadline, csvBodies, recorders, importUuids));
+            }
+            for (int i = 0; i < pollers; i++) {
+                clients.submit(() -> pollLoop(deadline, recorders.get("awards"), importUuids));
+            }
+        }
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        MemoryUsage heapAfter = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("commit", commit);
+        report.put("timestamp", LocalDateTime.now().toString());
+        report.put("durationSeconds", Math.round(elapsedSeconds * 100.0) / 100.0);
+        report.put("config", Map.of("importers", importers, "pollers", pollers, "csvSizes", CSV_SIZES));
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        recorders.forEach((name, recorder) -> operations.put(name, recorder.summary(elapsedSeconds)));
+        report.put("operations", operations);
+        report.put("jvm", jvmStatistics(heapBefore, heapAfter, gcBefore));
+
+        Path reportFile = writeReport(report);
+        compareWithBaseline(operations);
+
+        System.out.printf("[load] relatório gravado em %s%n", reportFile.toAbsolutePath());
+        assertThat(recorders.get("awards").summary(elapsedSeconds).get("count")).isNotEqualTo(0);
+    }
+
+    private void importLoop(int seed, long deadline, Map<Integer, byte[]> csvBodies,
+                            Map<String, LatencyRecorder> recorders, List<String> importUuids) {
+        Random random = new Random(seed);
+        while (System.nanoTime() < deadline) {
+            int size = CSV_SIZES[random.nextInt(CSV_SIZES.length)];
+            long start = System.nanoTime();
+            try {
+                String uuid = postImport(csvBodies.get(size));
+                if (uuid == null) {
+                    recorders.get("import-" + size).reject();
+                    Thread.sleep(REJECTED_BACKOFF_MS);
+                    continue;
+                }
+                recorders.get("import-" + size).record(System.nanoTime() - start, true);
+                importUuids.add(uuid);
+            } catch (Exception e) {
+                recorders.get("import-" + size).record(System.nanoTime() - start, false);
+            }
+        }
+    }
+
+    private void pollLoop(long deadline, LatencyRecorder recorder, List<String> importUuids) {
+        while (System.nanoTime() < deadline) {
+            String uuid = importUuids.get(ThreadLocalRandom.current().nextInt(importUuids.size()));
+            HttpRequest request = HttpRequest.newBuilder(uri("/api/v1/movies/import/" + uuid + "/awards")).GET().build();
+            long start = System.nanoTime();
+            try {
+                HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() == 429) {
+                    recorder.reject();
+                    Thread.sleep(REJECTED_BACKOFF_MS);
+                    continue;
+                }
+                recorder.record(System.nanoTime() - start, response.statusCode() == 200);
+            } catch (Exception e) {
+                recorder.record(System.nanoTime() - start, false);
+            }
+        }
+    }
+
+    /**
+     * Importa o CSV e retorna o UUID, ou null quando a importação foi recusada pelo controle de admissão
+     */
+    private String postImport(byte[] body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/v1/movies/import"))
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == 429) {
+            return null;
+        }
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("Importação falhou com status " + response.statusCode());
+        }
+        JsonNode json = objectMapper.readTree(response.body());
+        return json.get("uuidImported").asText();
+    }
+
+    private Map<String, Object> jvmStatistics(MemoryUsage heapBefore, MemoryUsage heapAfter, Map<String, long[]> gcBefore) {
+        Map<String, Object> jvm = new LinkedHashMap<>();
+        jvm.put("heapUsedBeforeMb", heapBefore.getUsed() / (1024 * 1024));
+        jvm.put("heapUsedAfterMb", heapAfter.getUsed() / (1024 * 1024));
+        jvm.put("heapCommittedMb", heapAfter.getCommitted() / (1024 * 1024));
+        jvm.put("heapMaxMb", heapAfter.getMax() / (1024 * 1024));
+
+        List<Map<String, Object>> collectors = new ArrayList<>();
+        gcSnapshot().forEach((name, after) -> {
+            long[] before = gcBefore.getOrDefault(name, new long[]{0, 0});
+            collectors.add(Map.of(
+                    "name", name,
+                    "collections", after[0] - before[0],
+                    "timeMs", after[1] - before[1]));
+        });
+        jvm.put("gc", collectors);
+        return jvm;
+    }
+
+    private Map<String, long[]> gcSnapshot() {
+        Map<String, long[]> snapshot = new LinkedHashMap<>();
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            snapshot.put(collector.getName(), new long[]{collector.getCollectionCount(), collector.getCollectionTime()});
+        }
+        return snapshot;
+    }
+
+    private Path writeReport(Map<String, Object> report) throws Exception {
+        Path directory = Path.of("build", "reports", "load");
+        Files.createDirectories(directory);
+        byte[] json = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsBytes(report);
+        Files.write(directory.resolve("load-report.json"), json);
+        Path reportFile = directory.resolve("load-report-" + commit + ".json");
+        Files.write(reportFile, json);
+        return reportFile;
+    }
+
+    /**
+     * Compara o p99 e a vazão com um relatório anterior (load.baseline), apenas informando as variações
+     */
+    private void compareWithBaseline(Map<String, Object> operations) throws Exception {
+        if (baselinePath.isBlank() || !Files.exists(Path.of(baselinePath))) {
+            return;
+        }
+        JsonNode baseline = objectMapper.readTree(Path.of(baselinePath).toFile()).get("operations");
+        operations.forEach((name, value) -> {
+            JsonNode previous = baseline.get(name);
+            if (previous == null) {
+                return;
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> current = (Map<String, Object>) value;
+            System.out.printf("[load] %s: p99 %.2f ms -> %.2f ms, vazão %.2f/s -> %.2f/s%n", name,
+                    previous.get("p99Ms").asDouble(), (Double) current.get("p99Ms"),
+                    previous.get("throughputPerSecond").asDouble(), (Double) current.get("throughputPerSecond"));
+        });
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static byte[] generateCsv(int rows) {
+        Random random = new Random(rows);
+        StringBuilder csv = new StringBuilder("year;title;studios;producers;winner\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append(1980 + random.nextInt(45)).append(";Movie ").append(i).append(";Studio ").append(random.nextInt(50))
+                    .append(";Producer ").append(random.nextInt(2_000)).append(" and Producer ").append(random.nextInt(2_000))
+                    .append(';').append(random.nextInt(5) == 0 ? "yes" : "").append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] multipartBody(byte[] csv) throws Exception {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(csv.length + 256);
+        body.write(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"load.csv\"\r\n"
+                + "Content-Type: text/csv\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.write(csv);
+        body.write(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.testbackend.monitoring.profiling;
+
+import com.example.testbackend.dto.response.ImportResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.profiling.slow-threshold-ms=0")
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+public class ProfilingFilterTest {
+
+    private static final String CSV = """
+            year;title;studios;producers;winner
+            1990;Movie A;Studio;Joel Silver;yes
+            1995;Movie B;Studio;Joel Silver;yes
+            """;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProfilingFilter profilingFilter;
+
+    @Autowired
+    private ProfilingRegistry profilingRegistry;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        profilingRegistry.setAlwaysOn(false);
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilters(profilingFilter)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve devolver Server-Timing com as fases da análise quando o cabeçalho X-Profile é enviado")
+    void shouldReportPhasesInServerTiming() throws Exception {
+        String importUuid = importCsv();
+
+        MvcResult result = mockMvc.perform(get("/api/v1/movies/import/{uuid}/awards", importUuid).header("X-Profile", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.min[0].producer").value("Joel Silver"))
+                .andReturn();
+
+        String serverTiming = result.getResponse().getHeader("Server-Timing");
+        assertThat(serverTiming)
+                .contains("fetch;dur=")
+                .contains("accumulate;dur=")
+                .contains("intervals;dur=")
+                .contains("serialization;dur=")
+                .contains("total;dur=");
+        assertThat(profilingRegistry.getSlowRequests())
+                .anySatisfy(snapshot -> assertThat(snapshot.getPath()).endsWith("/awards"));
+    }
+
+    @Test
+    @DisplayName("Não deve perfilar requisições sem o cabeçalho X-Profile")
+    void shouldNotProfileWithoutHeader() throws Exception {
+        String importUuid = importCsv();
+
+        mockMvc.perform(get("/api/v1/movies/import/{uuid}/awards", importUuid))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Server-Timing"));
+    }
+
+    @Test
+    @DisplayName("Deve perfilar todas as requisições quando o modo sempre ligado está ativo")
+    void shouldProfileEveryRequestWhenAlwaysOn() throws Exception {
+        String importUuid = importCsv();
+        profilingRegistry.setAlwaysOn(true);
+
+        mockMvc.perform(get("/api/v1/movies/import/{uuid}/awards", importUuid))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Server-Timing"));
+    }
+
+    private String importCsv() throws Exception {
+        MockMultipartFile csvFile = new MockMultipartFile("file", "movies.csv", "text/csv", CSV.getBytes());
+        MvcResult result = mockMvc.perform(multipart("/api/v1/movies/import").file(csvFile))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readValue(result.getResponse().getContentAsString(), ImportResponse.class).getUuidImported();
+    }
+}
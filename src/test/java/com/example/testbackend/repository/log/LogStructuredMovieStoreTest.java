@@ -0,0 +1,102 @@
+package com.example.testbackend.repository.log;
+
+import com.example.testbackend.config.StorageProperties;
+import com.example.testbackend.model.Movie;
+import com.example.testbackend.repository.WinnerRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LogStructuredMovieStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Deve recuperar as importações do log após reabrir o armazenamento")
+    void shouldRecoverImportsAfterReopening() throws Exception {
+        // Given
+        LogStructuredMovieStore store = new LogStructuredMovieStore(properties());
+        store.saveAll(List.of(movie("import-a", 1990, "Joel Silver"), movie("import-a", 1991, "Joel Silver")));
+        store.saveAll(List.of(movie("import-b", 2002, "Matthew Vaughn")));
+        store.deleteByImportUuid("import-b");
+        store.close();
+
+        // When
+        LogStructuredMovieStore reopened = new LogStructuredMovieStore(properties());
+
+        // Then
+        assertThat(reopened.findByImportUuid("import-a"))
+                .extracting(Movie::getYear)
+                .containsExactly(1990, 1991);
+        assertThat(reopened.findByImportUuid("import-b")).isEmpty();
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Deve truncar um registro incompleto no final do log durante a recuperação")
+    void shouldTruncateTornRecordOnRecovery() throws Exception {
+        // Given
+        LogStructuredMovieStore store = new LogStructuredMovieStore(properties());
+        store.saveAll(List.of(movie("import-a", 1990, "Joel Silver")));
+        store.close();
+        long validSize = Files.size(directory.resolve("movies.log"));
+        Files.write(directory.resolve("movies.log"), new byte[]{0, 0, 0, 42, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        // When
+        LogStructuredMovieStore reopened = new LogStructuredMovieStore(properties());
+        reopened.saveAll(List.of(movie("import-a", 1991, "Joel Silver")));
+
+        // Then
+        assertThat(reopened.findByImportUuid("import-a"))
+                .extracting(Movie::getYear)
+                .containsExactly(1990, 1991);
+        assertThat(Files.size(directory.resolve("movies.log"))).isGreaterThan(validSize);
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Deve gravar e ler textos maiores que 65.535 bytes")
+    void shouldRoundTripTextsLongerThanWriteUtfLimit() throws Exception {
+        // Given
+        String producers = "Produtor Çñ ".repeat(8_000);
+        LogStructuredMovieStore store = new LogStructuredMovieStore(properties());
+        store.saveAll(List.of(movie("import-a", 1990, producers), movie("import-a", 1991, null)));
+        store.close();
+
+        // When
+        LogStructuredMovieStore reopened = new LogStructuredMovieStore(properties());
+        List<Movie> movies = reopened.findByImportUuid("import-a");
+        List<WinnerRow> winners = new ArrayList<>();
+        reopened.forEachWinnerByYear("import-a", 1990, 1990, winners::add);
+
+        // Then
+        assertThat(movies).extracting(Movie::getProducers).containsExactly(producers, null);
+        assertThat(winners).extracting(WinnerRow::getProducers).containsExactly(producers);
+        reopened.close();
+    }
+
+    private StorageProperties properties() {
+        StorageProperties properties = new StorageProperties();
+        properties.getLog().setDirectory(directory.toString());
+        return properties;
+    }
+
+    private Movie movie(String importUuid, int year, String producers) {
+        return Movie.builder()
+                .year(year)
+                .title("Movie " + year)
+                .producers(producers)
+                .winner(true)
+                .importUuid(importUuid)
+                .build();
+    }
+}
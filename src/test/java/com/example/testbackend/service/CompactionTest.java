@@ -0,0 +1,79 @@
+package com.example.testbackend.service;
+
+import com.example.testbackend.dto.response.ImportResponse;
+import com.example.testbackend.dto.response.ImportStatusResponse;
+import com.example.testbackend.dto.response.SummarizedAwardsResponse;
+import com.example.testbackend.service.awards.AwardDimension;
+import com.example.testbackend.service.compaction.CompactionState;
+import com.example.testbackend.service.compaction.ImportCompactor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "app.storage.compaction.enabled=true",
+        "app.storage.compaction.directory=build/compacted-test"
+})
+@ActiveProfiles("test")
+public class CompactionTest {
+
+    @Autowired
+    private MovieService movieService;
+
+    @Autowired
+    private ImportCompactor importCompactor;
+
+    @Test
+    @DisplayName("Deve compactar a importação em segundo plano e responder a análise pelo segmento com o mesmo resultado")
+    void shouldSummarizeAwardsFromCompactedSegment() throws Exception {
+        // Given
+        byte[] csv = new ClassPathResource("mocks/movielist.csv").getContentAsByteArray();
+        ImportResponse importResponse = movieService.importCsvFile(
+                new MockMultipartFile("file", "movielist.csv", "text/csv", csv));
+        String importUuid = importResponse.getUuidImported();
+
+        // When
+        ImportStatusResponse status = awaitCompaction(importUuid);
+
+        // Then
+        assertThat(status.getCompaction()).isEqualTo(CompactionState.COMPLETED);
+        assertThat(status.getProgressPercent()).isEqualTo(100.0);
+        assertThat(status.getTotalRows()).isPositive();
+        assertThat(status.getSegmentBytes()).isPositive();
+        assertThat(importCompactor.find(importUuid)).isPresent();
+
+        SummarizedAwardsResponse producers = movieService.getSummarizedAwards(importUuid, AwardDimension.PRODUCERS);
+        SummarizedAwardsResponse studios = movieService.getSummarizedAwards(importUuid, AwardDimension.STUDIOS);
+        SummarizedAwardsResponse since2000 = movieService.getSummarizedAwards(importUuid, AwardDimension.PRODUCERS, 2000, null);
+        assertThat(producers.getMax().getFirst().getProducer()).isEqualTo("Matthew Vaughn");
+        assertThat(producers.getMax().getFirst().getInterval()).isEqualTo(13);
+
+        // Sem o segmento, a análise volta a ler do armazenamento, com os mesmos empates na mesma ordem
+        importCompactor.evict(importUuid);
+        assertSameAwards(movieService.getSummarizedAwards(importUuid, AwardDimension.PRODUCERS), producers);
+        assertSameAwards(movieService.getSummarizedAwards(importUuid, AwardDimension.STUDIOS), studios);
+        assertSameAwards(movieService.getSummarizedAwards(importUuid, AwardDimension.PRODUCERS, 2000, null), since2000);
+    }
+
+    private ImportStatusResponse awaitCompaction(String importUuid) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        ImportStatusResponse status = movieService.getImportStatus(importUuid);
+        while (status.getCompaction() != CompactionState.COMPLETED && status.getCompaction() != CompactionState.FAILED
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            status = movieService.getImportStatus(importUuid);
+        }
+        return status;
+    }
+
+    private static void assertSameAwards(SummarizedAwardsResponse actual, SummarizedAwardsResponse expected) {
+        assertThat(actual.getMin()).containsExactlyElementsOf(expected.getMin());
+        assertThat(actual.getMax()).containsExactlyElementsOf(expected.getMax());
+    }
+}
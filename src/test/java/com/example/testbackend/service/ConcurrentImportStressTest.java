@@ -0,0 +1,95 @@
+package com.example.testbackend.service;
+
+import com.example.testbackend.dto.response.ImportResponse;
+import com.example.testbackend.repository.MovieRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "app.import.write-mode=CONCURRENT",
+        "app.import.chunk-size=100",
+        "app.import.writers=4",
+        "app.import.queue-capacity=4"
+})
+@ActiveProfiles("test")
+public class ConcurrentImportStressTest {
+
+    private static final int ROWS_PER_UPLOAD = 1_000;
+
+    @Autowired
+    private MovieService movieService;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @BeforeEach
+    void setUp() {
+        movieRepository.deleteAll();
+    }
+
+    @ParameterizedTest(name = "{0} importações simultâneas")
+    @ValueSource(ints = {1, 4, 16, 64})
+    @DisplayName("Deve importar corretamente com várias importações simultâneas no modo CONCURRENT")
+    void shouldImportConcurrentUploadsCorrectly(int concurrentUploads) throws Exception {
+        // Given
+        MockMultipartFile csvFile = new MockMultipartFile("file", "stress.csv", "text/csv", generateCsv());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ImportResponse>> futures = new ArrayList<>();
+
+        // When
+        long startTime;
+        try (ExecutorService clients = Executors.newFixedThreadPool(concurrentUploads)) {
+            for (int i = 0; i < concurrentUploads; i++) {
+                futures.add(clients.submit(() -> {
+                    start.await();
+                    return movieService.importCsvFile(csvFile);
+                }));
+            }
+            startTime = System.nanoTime();
+            start.countDown();
+
+            // Then
+            List<String> importUuids = new ArrayList<>();
+            for (Future<ImportResponse> future : futures) {
+                ImportResponse response = future.get();
+                assertThat(response.getImportedRows()).isEqualTo(ROWS_PER_UPLOAD);
+                importUuids.add(response.getUuidImported());
+            }
+            double seconds = (System.nanoTime() - startTime) / 1e9;
+
+            assertThat(importUuids).doesNotHaveDuplicates();
+            for (String importUuid : importUuids) {
+                assertThat(movieRepository.findByImportUuid(importUuid)).hasSize(ROWS_PER_UPLOAD);
+            }
+            assertThat(movieRepository.count()).isEqualTo((long) ROWS_PER_UPLOAD * concurrentUploads);
+
+            System.out.printf("[stress] %d importações simultâneas: %.0f linhas/s agregadas%n",
+                    concurrentUploads, ROWS_PER_UPLOAD * concurrentUploads / seconds);
+        }
+    }
+
+    private byte[] generateCsv() {
+        StringBuilder csv = new StringBuilder("year;title;studios;producers;winner\n");
+        for (int i = 0; i < ROWS_PER_UPLOAD; i++) {
+            csv.append(1980 + i % 40).append(";Movie ").append(i).append(";Studio ").append(i % 10)
+                    .append(";Producer ").append(i % 200).append(';').append(i % 3 == 0 ? "yes" : "").append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.testbackend.service;
+
+import com.example.testbackend.dto.response.ImportResponse;
+import com.example.testbackend.dto.response.SummarizedAwardsResponse;
+import com.example.testbackend.service.awards.AwardDimension;
+import com.example.testbackend.service.offheap.OffHeapImport;
+import com.example.testbackend.service.offheap.OffHeapImportRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "app.storage.off-heap.enabled=true",
+        "app.import.chunk-size=50"
+})
+@ActiveProfiles("test")
+public class OffHeapAwardsTest {
+
+    @Autowired
+    private MovieService movieService;
+
+    @Autowired
+    private OffHeapImportRegistry offHeapImportRegistry;
+
+    @Test
+    @DisplayName("Deve calcular a análise de prêmios a partir da cópia fora do heap com o mesmo resultado do armazenamento")
+    void shouldSummarizeAwardsFromOffHeapColumns() throws Exception {
+        // Given
+        byte[] csv = new ClassPathResource("mocks/movielist.csv").getContentAsByteArray();
+        ImportResponse importResponse = movieService.importCsvFile(
+                new MockMultipartFile("file", "movielist.csv", "text/csv", csv));
+        String importUuid = importResponse.getUuidImported();
+
+        OffHeapImport offHeapImport = offHeapImportRegistry.find(importUuid).orElseThrow();
+        assertThat(offHeapImport.rowCount()).isEqualTo(206);
+        assertThat(offHeapImport.offHeapBytes()).isPositive();
+
+        // When
+        SummarizedAwardsResponse producers = movieService.getSummarizedAwards(importUuid, AwardDimension.PRODUCERS);
+        SummarizedAwardsResponse studios = movieService.getSummarizedAwards(importUuid, AwardDimension.STUDIOS);
+
+        // Then
+        assertThat(producers.getMin().getFirst().getProducer()).isEqualTo("Joel Silver");
+        assertThat(producers.getMax().getFirst().getProducer()).isEqualTo("Matthew Vaughn");
+        assertThat(producers.getMax().getFirst().getInterval()).isEqualTo(13);
+
+        offHeapImportRegistry.evict(importUuid);
+        assertThat(movieService.getSummarizedAwards(importUuid, AwardDimension.PRODUCERS)).isEqualTo(producers);
+        assertThat(movieService.getSummarizedAwards(importUuid, AwardDimension.STUDIOS)).isEqualTo(studios);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.testbackend.service;
+
+import com.example.testbackend.dto.response.ImportResponse;
+import com.example.testbackend.dto.response.SummarizedAwardsResponse;
+import com.example.testbackend.exception.ResourceNotFoundException;
+import com.example.testbackend.mapper.MovieAwardsMapper;
+import com.example.testbackend.repository.MovieStore;
+import com.example.testbackend.service.awards.AwardDimension;
+import com.example.testbackend.service.awards.AwardIntervalEngine;
+import com.example.testbackend.service.compaction.CompactionState;
+import com.example.testbackend.service.compaction.ImportCompactor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "app.awards.evaluation=STREAMING",
+        "app.storage.off-heap.enabled=true",
+        "app.storage.compaction.enabled=true",
+        "app.storage.compaction.directory=build/compacted-streaming-test"
+})
+@ActiveProfiles("test")
+public class StreamingAwardsTest {
+
+    @Autowired
+    private MovieService movieService;
+
+    @Autowired
+    private MovieStore movieStore;
+
+    @Autowired
+    private AwardIntervalEngine awardIntervalEngine;
+
+    @Autowired
+    private MovieAwardsMapper movieAwardsMapper;
+
+    @Autowired
+    private ImportCompactor importCompactor;
+
+    @Test
+    @DisplayName("Deve calcular pelo cursor o mesmo resultado da análise materializada")
+    void shouldMatchMaterializedAnalysis() throws Exception {
+        // Given
+        byte[] csv = new ClassPathResource("mocks/movielist.csv").getContentAsByteArray();
+        ImportResponse importResponse = movieService.importCsvFile(
+                new MockMultipartFile("file", "movielist.csv", "text/csv", csv));
+        String importUuid = importResponse.getUuidImported();
+
+        // When
+        SummarizedAwardsResponse producers = movieService.getSummarizedAwards(importUuid, AwardDimension.PRODUCERS);
+        SummarizedAwardsResponse studios = movieService.getSummarizedAwards(importUuid, AwardDimension.STUDIOS);
+        SummarizedAwardsResponse since2000 = movieService.getSummarizedAwards(importUuid, AwardDimension.PRODUCERS, 2000, null);
+
+        // Then
+        assertThat(producers.getMin().getFirst().getProducer()).isEqualTo("Joel Silver");
+        assertThat(producers.getMax().getFirst().getProducer()).isEqualTo("Matthew Vaughn");
+        assertThat(producers.getMax().getFirst().getInterval()).isEqualTo(13);
+        assertSameAwards(producers, materialized(importUuid, AwardDimension.PRODUCERS, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertSameAwards(studios, materialized(importUuid, AwardDimension.STUDIOS, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertSameAwards(since2000, materialized(importUuid, AwardDimension.PRODUCERS, 2000, Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 para importação inexistente e resposta vazia para intervalo sem vitórias")
+    void shouldHandleMissingImportAndEmptyRange() throws Exception {
+        byte[] csv = new ClassPathResource("mocks/movielist.csv").getContentAsByteArray();
+        String importUuid = movieService.importCsvFile(
+                new MockMultipartFile("file", "movielist.csv", "text/csv", csv)).getUuidImported();
+
+        SummarizedAwardsResponse empty = movieService.getSummarizedAwards(importUuid, AwardDimension.PRODUCERS, 1800, 1801);
+        assertThat(empty.getMin()).isEmpty();
+        assertThat(empty.getMax()).isEmpty();
+
+        assertThatThrownBy(() -> movieService.getSummarizedAwards("inexistente", AwardDimension.PRODUCERS))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Deve ler pelo cursor mesmo quando a importação já tem segmento compactado")
+    void shouldPreferCursorOverCompactedSegment() throws Exception {
+        // Given
+        byte[] csv = new ClassPathResource("mocks/movielist.csv").getContentAsByteArray();
+        String importUuid = movieService.importCsvFile(
+                new MockMultipartFile("file", "movielist.csv", "text/csv", csv)).getUuidImported();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (importCompactor.find(importUuid).isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(importCompactor.progressOf(importUuid).getState()).isEqualTo(CompactionState.COMPLETED);
+
+        // When: as linhas saem do armazenamento, mas o segmento continua pronto
+        movieStore.deleteByImportUuid(importUuid);
+
+        // Then: o modo configurado vale antes do segmento, então a importação não é mais encontrada
+        assertThatThrownBy(() -> movieService.getSummarizedAwards(importUuid, AwardDimension.PRODUCERS))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private SummarizedAwardsResponse materialized(String importUuid, AwardDimension dimension, int minYear, int maxYear) {
+        return movieAwardsMapper.buildSummarizedResponse(awardIntervalEngine.computeIntervals(
+                movieStore.findWinnersByImportUuid(importUuid, minYear, maxYear), dimension));
+    }
+
+    private static void assertSameAwards(SummarizedAwardsResponse actual, SummarizedAwardsResponse expected) {
+        assertThat(actual.getMin()).containsExactlyElementsOf(expected.getMin());
+        assertThat(actual.getMax()).containsExactlyElementsOf(expected.getMax());
+    }
+}
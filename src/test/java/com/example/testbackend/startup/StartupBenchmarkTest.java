@@ -0,0 +1,176 @@
+package com.example.testbackend.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mede a inicialização da aplicação empacotada em {@code build/cds/app.jar}, cada execução num processo novo:
+ * tempo desde o início do processo até {@code /actuator/health/readiness} responder 200 e a memória residente
+ * (RSS) nesse momento. Compara a inicialização padrão, o perfil fast-start e o perfil fast-start com AOT e o
+ * arquivo CDS. Executado com {@code ./gradlew startupBenchmark}, que gera o JAR e o arquivo CDS antes; o
+ * relatório JSON vai para {@code build/reports/startup}.
+ */
+@Tag("startup")
+public class StartupBenchmarkTest {
+
+    private static final Duration READY_TIMEOUT = Duration.ofSeconds(90);
+    private static final long POLL_INTERVAL_MS = 10;
+
+    private final Path directory = Path.of(System.getProperty("startup.directory", "build/cds"));
+    private final Path reportDirectory = Path.of(System.getProperty("startup.reportDirectory", "build/reports/startup"));
+    private final String java = System.getProperty("startup.java",
+            Path.of(System.getProperty("java.home"), "bin", "java").toString());
+    private final int runs = Integer.getInteger("startup.runs", 3);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    @Test
+    @DisplayName("Deve medir tempo até a prontidão e RSS de cada modo de inicialização e gravar o relatório")
+    void measureStartup() throws Exception {
+        assertThat(directory.resolve("app.jar")).exists();
+        Files.createDirectories(reportDirectory);
+
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("default", List.of());
+        variants.put("fast-start", List.of("--spring.profiles.active=fast-start"));
+        variants.put("fast-start-aot-cds", List.of("-XX:SharedArchiveFile=app.jsa", "-Dspring.aot.enabled=true",
+                "--spring.profiles.active=fast-start"));
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            List<Sample> samples = new ArrayList<>();
+            for (int run = 0; run < runs; run++) {
+                samples.add(startOnce(variant.getKey(), run, variant.getValue()));
+            }
+            Map<String, Object> summary = summarize(samples);
+            results.put(variant.getKey(), summary);
+            System.out.printf("[startup] %s: prontidão mediana %d ms, RSS mediano %d MB (%d execuções)%n",
+                    variant.getKey(), summary.get("readyMedianMs"), summary.get("rssMedianMb"), runs);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", LocalDateTime.now().toString());
+        report.put("runs", runs);
+        report.put("variants", results);
+        Path reportFile = reportDirectory.resolve("startup-report.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        System.out.printf("[startup] relatório gravado em %s%n", reportFile.toAbsolutePath());
+    }
+
+    /**
+     * Sobe um processo com os argumentos da variante (opções da JVM antes de -jar, da aplicação depois) e
+     * espera a prontidão; o processo é encerrado em seguida
+     */
+    private Sample startOnce(String variant, int run, List<String> arguments) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(List.of(java));
+        arguments.stream().filter(argument -> argument.startsWith("-X") || argument.startsWith("-D")).forEach(command::add);
+        command.addAll(List.of("-jar", "app.jar", "--server.port=" + port));
+        arguments.stream().filter(argument -> argument.startsWith("--")).forEach(command::add);
+
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .directory(directory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(reportDirectory.resolve(variant + "-" + run + ".log").toFile());
+
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            awaitReady(process, port);
+            long readyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            return new Sample(readyMs, residentSetKb(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private void awaitReady(Process process, int port) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health/readiness"))
+                .timeout(Duration.ofSeconds(1))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + READY_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Processo encerrou antes da prontidão, código " + process.exitValue());
+            }
+            try {
+                if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException e) {
+                // Servidor ainda não abriu a porta
+            }
+            Thread.sleep(POLL_INTERVAL_MS);
+        }
+        throw new IllegalStateException("Aplicação não ficou pronta em " + READY_TIMEOUT);
+    }
+
+    /**
+     * RSS do processo em KB: /proc no Linux, {@code ps} nos demais sistemas
+     */
+    private static long residentSetKb(long pid) throws IOException, InterruptedException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (Files.exists(status)) {
+            return Files.readAllLines(status).stream()
+                    .filter(line -> line.startsWith("VmRSS:"))
+                    .map(line -> line.replaceAll("\\D", ""))
+                    .mapToLong(Long::parseLong)
+                    .findFirst()
+                    .orElse(0);
+        }
+        Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", Long.toString(pid)).start();
+        String output = new String(ps.getInputStream().readAllBytes()).trim();
+        ps.waitFor();
+        return output.isEmpty() ? 0 : Long.parseLong(output);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static Map<String, Object> summarize(List<Sample> samples) {
+        long[] readyMs = samples.stream().mapToLong(Sample::readyMs).sorted().toArray();
+        long[] rssKb = samples.stream().mapToLong(Sample::rssKb).sorted().toArray();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("readyMedianMs", readyMs[readyMs.length / 2]);
+        summary.put("readyMinMs", readyMs[0]);
+        summary.put("readyMaxMs", readyMs[readyMs.length - 1]);
+        summary.put("rssMedianMb", rssKb[rssKb.length / 2] / 1024);
+        summary.put("readyMs", Arrays.stream(readyMs).boxed().toList());
+        return summary;
+    }
+
+    private record Sample(long readyMs, long rssKb) {
+    }
+}